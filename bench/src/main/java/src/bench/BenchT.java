@@ -0,0 +1,36 @@
+/**
+ * @file: BenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The entry point of the benchmark jar.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @brief Runs the benchmarks with the usual JMH command line, always adding the GC profiler so
+ * that every result comes with its allocation rate per operation (gc.alloc.rate.norm).
+ */
+public class BenchT {
+
+    /**
+     * @brief A private constructor, the entry point only has a main method.
+     */
+    private BenchT() {}
+
+    /**
+     * @brief Running the benchmarks.
+     * @param args - JMH options, such as a benchmark name pattern
+     * @throws Exception - if the options are invalid or a benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+    }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * @file: CheckBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Benchmarks of the game-over checks.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.PackedBoard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief The cost of isOver and isFull, which run after every move. The full board has no
+ * empty cell but still has merges, so isOver has to check both directions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckBenchT {
+
+    // 4 2 4 2 / 2 4 2 4 / 4 2 4 2 / 4 2 2 4: full, the only merges are at the bottom left
+    private final static long FULL = 0x2112121221211212L;
+
+    @Param({"BoardT", "BitBoardT"})
+    public String engine;
+
+    @Param({"mid", "full"})
+    public String stage;
+
+    private PackedBoard board;
+
+    @Setup
+    public void setUp() {
+        this.board = StagesT.engine(this.engine);
+        this.board.restore(this.stage.equals("full") ? FULL : StagesT.board(this.stage), 0, true);
+    }
+
+    @Benchmark
+    public boolean isOver() {
+        return this.board.isOver();
+    }
+
+    @Benchmark
+    public boolean isFull() {
+        return this.board.isFull();
+    }
+
+}
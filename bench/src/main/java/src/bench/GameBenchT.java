@@ -0,0 +1,61 @@
+/**
+ * @file: GameBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A benchmark of whole random games.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.BatchT;
+import src.BitBoardT;
+import src.Board;
+import src.BoardT;
+import src.RandomPolicyT;
+import src.RandomT;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief Random games played from start to end, in games per second. Every invocation plays
+ * the next game of a seeded series, so runs see the same games.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchT {
+
+    @Param({"BoardT", "BitBoardT"})
+    public String engine;
+
+    private RandomPolicyT player;
+    private long game;
+
+    @Setup
+    public void setUp() {
+        this.player = new RandomPolicyT(new RandomT(1));
+        this.game = 0;
+    }
+
+    @Benchmark
+    public int playGame() {
+        RandomT random = RandomT.of(2048, this.game++);
+        Board board = this.engine.equals("BoardT") ? new BoardT(random) : new BitBoardT(random);
+        return BatchT.play(board, this.player);
+    }
+
+}
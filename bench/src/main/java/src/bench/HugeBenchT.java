@@ -0,0 +1,81 @@
+/**
+ * @file: HugeBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A benchmark of moves on a huge board with a varying number of threads.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import src.HugeBoardT;
+import src.MoveT;
+import src.RandomT;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief One move on a half full square board of 2s and 4s, cycling through the four directions.
+ * The same cells are restored before every invocation, outside the measurement, so every move
+ * slides and merges as much as the first; compare the threads parameter against the number of
+ * cores to read the speedup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HugeBenchT {
+
+    @Param({"1024"})
+    public int side;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private HugeBoardT board;
+    private int[] cells;
+    private int move;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.pool = new ForkJoinPool(this.threads);
+        this.board = new HugeBoardT(this.side, this.side, new RandomT(1), this.pool);
+        for (int i = 0; i < this.side * this.side / 2; i++) {
+            this.board.addCell(RandomT.tile(this.board.getRandom()));
+        }
+        this.cells = this.board.getCells();
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        this.board.setCells(this.cells);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public HugeBoardT moveBoard() {
+        this.board.moveBoard(MoveT.values()[this.move++ & 3]);
+        return this.board;
+    }
+
+}
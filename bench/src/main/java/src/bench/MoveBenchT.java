@@ -0,0 +1,70 @@
+/**
+ * @file: MoveBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Benchmarks of moveBoard on boards from every stage of a game.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.Board;
+import src.MoveT;
+import src.PackedBoard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief The cost of one move of each direction. Every invocation first restores the board,
+ * so restore alone is measured as well and is the baseline to subtract.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchT {
+
+    @Param({"BoardT", "BitBoardT"})
+    public String engine;
+
+    @Param({"early", "mid", "late"})
+    public String stage;
+
+    @Param({"Left", "Right", "Up", "Down"})
+    public MoveT move;
+
+    private PackedBoard board;
+    private long cells;
+
+    @Setup
+    public void setUp() {
+        this.board = StagesT.engine(this.engine);
+        this.cells = StagesT.board(this.stage);
+    }
+
+    @Benchmark
+    public Board moveBoard() {
+        this.board.restore(this.cells, 0, true);
+        this.board.moveBoard(this.move);
+        return this.board;
+    }
+
+    @Benchmark
+    public Board restore() {
+        this.board.restore(this.cells, 0, true);
+        return this.board;
+    }
+
+}
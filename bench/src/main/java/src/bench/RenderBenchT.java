@@ -0,0 +1,61 @@
+/**
+ * @file: RenderBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A benchmark of drawing the board.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.PackedBoard;
+import src.RendererT;
+import src.UI;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief The cost of UI.printBoard writing a mid-game board to a stream that discards it,
+ * so only building and handing over the frame is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchT {
+
+    @Param({"BoardT", "BitBoardT"})
+    public String engine;
+
+    @Param({"false", "true"})
+    public boolean ansi;
+
+    private PackedBoard board;
+    private UI ui;
+
+    @Setup
+    public void setUp() {
+        this.board = StagesT.engine(this.engine);
+        this.board.restore(StagesT.board("mid"), 1234, true);
+        this.ui = new UI(new RendererT(OutputStream.nullOutputStream(), this.ansi));
+    }
+
+    @Benchmark
+    public void printBoard() {
+        this.ui.printBoard(this.board);
+    }
+
+}
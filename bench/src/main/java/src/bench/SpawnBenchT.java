@@ -0,0 +1,68 @@
+/**
+ * @file: SpawnBenchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Benchmarks of addCell on nearly full boards.
+ */
+
+package src.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import src.BitBoardT;
+import src.Board;
+import src.PackedBoard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief The cost of spawning a tile when only a few cells are empty, where retrying random
+ * cells would be slowest. The board is restored before every spawn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchT {
+
+    @Param({"BoardT", "BitBoardT"})
+    public String engine;
+
+    @Param({"1", "2"})
+    public int empty;
+
+    private PackedBoard board;
+    private long cells;
+
+    @Setup
+    public void setUp() {
+        this.board = StagesT.engine(this.engine);
+        long cells = StagesT.board("early");
+        // fill the empty cells of an early board until the requested number is left
+        int mask = BitBoardT.emptyMask(cells);
+        while (Integer.bitCount(mask) > this.empty) {
+            cells |= 0xFL << (4 * Integer.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        this.cells = cells;
+    }
+
+    @Benchmark
+    public Board addCell() {
+        this.board.restore(this.cells, 0, true);
+        this.board.addCell(2);
+        return this.board;
+    }
+
+}
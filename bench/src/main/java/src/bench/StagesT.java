@@ -0,0 +1,83 @@
+/**
+ * @file: StagesT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Reproducible boards from different stages of a game for the benchmarks.
+ */
+
+package src.bench;
+
+import src.BitBoardT;
+import src.BoardT;
+import src.GreedyPolicyT;
+import src.PackedBoard;
+import src.RandomT;
+
+/**
+ * @brief Packed boards taken from a greedy game with a fixed seed, so every benchmark run
+ * measures the same positions.
+ */
+public class StagesT {
+    private final static long SEED = 2048;
+
+    /**
+     * @brief A private constructor, the stages only have static methods.
+     */
+    private StagesT() {}
+
+    /**
+     * @brief A board from a stage of the game.
+     * @param stage - early (few tiles), mid (about half full) or late (at most two empty cells)
+     * @throws IllegalArgumentException - if the stage is unknown
+     * @return A packed board with at least one empty cell.
+     */
+    public static long board(String stage) {
+        if (stage.equals("early")) {
+            return play(10, 16);
+        } else if (stage.equals("mid")) {
+            return play(200, 8);
+        } else if (stage.equals("late")) {
+            return play(Integer.MAX_VALUE, 2);
+        }
+        throw new IllegalArgumentException("unknown stage: " + stage);
+    }
+
+    /**
+     * @brief Playing a greedy game until it reaches a number of moves, keeping the last board
+     * with at least one and at most a given number of empty cells.
+     * @param moves - the number of moves to play at most
+     * @param empty - the largest number of empty cells of the kept board
+     * @return The kept packed board.
+     */
+    private static long play(int moves, int empty) {
+        BitBoardT board = new BitBoardT(SEED);
+        board.startBoard();
+        GreedyPolicyT player = new GreedyPolicyT();
+        long kept = board.board;
+        for (int i = 0; i < moves && board.legalMoves() != 0; i++) {
+            board.moveBoard(player.chooseMove(board));
+            board.addCell(RandomT.tile(board.getRandom()));
+            int count = Integer.bitCount(BitBoardT.emptyMask(board.board));
+            if (count >= 1 && count <= empty) {
+                kept = board.board;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * @brief A new board of an engine.
+     * @param engine - BoardT or BitBoardT
+     * @throws IllegalArgumentException - if the engine is unknown
+     * @return An empty board with a seeded generator.
+     */
+    public static PackedBoard engine(String engine) {
+        if (engine.equals("BoardT")) {
+            return new BoardT(SEED);
+        } else if (engine.equals("BitBoardT")) {
+            return new BitBoardT(SEED);
+        }
+        throw new IllegalArgumentException("unknown engine: " + engine);
+    }
+
+}
@@ -12,7 +12,24 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-        TestBoardT.class
+        TestBoardT.class,
+        TestBitBoardT.class,
+        TestExpectimaxT.class,
+        TestMonteCarloT.class,
+        TestNTupleT.class,
+        TestTableStoreT.class,
+        TestBatchT.class,
+        TestServerT.class,
+        TestPlayT.class,
+        TestRendererT.class,
+        TestReplayT.class,
+        TestVerifierT.class,
+        TestHistoryT.class,
+        TestSnapshotT.class,
+        TestSlideT.class,
+        TestHugeBoardT.class,
+        TestTranspositionT.class,
+        TestSymmetryT.class
 })
 
 public class AllTests {
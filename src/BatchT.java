@@ -0,0 +1,216 @@
+/**
+ * @file: BatchT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A headless driver playing many games with an automated player.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * @brief Plays a series of games without any console input or output, spread over several
+ * threads, and summarizes them. Game i is always dealt the same tiles for the same seed,
+ * whatever the number of threads; each thread gets its own player from the factory.
+ */
+public class BatchT {
+    private final Function<RandomT, PolicyT> players;
+    private final int threads;
+
+    /**
+     * @brief A constructor for a batch driver.
+     * @param players - creates the player of a thread from that thread's generator
+     * @param threads - the number of threads
+     */
+    public BatchT(Function<RandomT, PolicyT> players, int threads) {
+        this.players = players;
+        this.threads = threads;
+    }
+
+    /**
+     * @brief The outcome of a series of games.
+     */
+    public static class Result {
+        public final int[] marks;
+        public final int[] maxTiles;
+        public long moves;
+        public long nanos;
+
+        /**
+         * @brief A constructor for the results of a series.
+         * @param games - the number of games
+         */
+        Result(int games) {
+            this.marks = new int[games];
+            this.maxTiles = new int[games];
+        }
+
+        /**
+         * @brief The share of games whose largest tile reached a value.
+         * @param tile - a tile value
+         * @return The rate between 0 and 1.
+         */
+        public double reachRate(int tile) {
+            int count = 0;
+            for (int maxTile : this.maxTiles) {
+                if (maxTile >= tile) {
+                    count++;
+                }
+            }
+            return this.maxTiles.length == 0 ? 0 : (double) count / this.maxTiles.length;
+        }
+
+        /**
+         * @brief A report of the throughput, marks and largest tiles of the series.
+         * @return A multi-line report.
+         */
+        @Override
+        public String toString() {
+            int games = this.marks.length;
+            double seconds = this.nanos / 1e9;
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("games: %d, moves: %d, time: %.3f s%n", games, this.moves, seconds));
+            report.append(String.format("games/sec: %.1f, moves/sec: %.0f%n", games / seconds, this.moves / seconds));
+            if (games == 0) {
+                return report.toString();
+            }
+            int[] sorted = this.marks.clone();
+            Arrays.sort(sorted);
+            report.append(String.format("marks: min %d, mean %.0f, p50 %d, p90 %d, p99 %d, max %d%n",
+                    sorted[0], Arrays.stream(sorted).average().orElse(0), percentile(sorted, 0.5),
+                    percentile(sorted, 0.9), percentile(sorted, 0.99), sorted[games - 1]));
+            report.append("max tile:\n");
+            int[] counts = new int[BitBoardT.MAX_EXPONENT + 1];
+            for (int maxTile : this.maxTiles) {
+                counts[BitBoardT.exponent(maxTile)]++;
+            }
+            for (int e = 1; e < counts.length; e++) {
+                if (counts[e] > 0) {
+                    report.append(String.format("%8d  %7d  %5.1f%%%n", 1 << e, counts[e], 100.0 * counts[e] / games));
+                }
+            }
+            for (int tile = 2048; tile <= 1 << BitBoardT.MAX_EXPONENT; tile *= 2) {
+                report.append(String.format("reached %d: %.1f%%%n", tile, 100 * this.reachRate(tile)));
+            }
+            return report.toString();
+        }
+
+        /**
+         * @brief A percentile of sorted values.
+         * @param sorted - the values in increasing order
+         * @param p - the percentile between 0 and 1
+         * @return The value below which a share p of the values lie.
+         */
+        private static int percentile(int[] sorted, double p) {
+            return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+        }
+    }
+
+    /**
+     * @brief Playing a series of games.
+     * @param games - the number of games
+     * @param seed - the seed of the series
+     * @throws InterruptedException - if interrupted while waiting for the threads
+     * @return The marks and largest tile of every game, with the totals of the series.
+     */
+    public Result run(int games, long seed) throws InterruptedException {
+        Result result = new Result(games);
+        RandomT[] randoms = RandomT.split(seed, this.threads);
+        AtomicInteger next = new AtomicInteger();
+        long[] moves = new long[this.threads];
+        Thread[] workers = new Thread[this.threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < this.threads; t++) {
+            int worker = t;
+            PolicyT player = this.players.apply(randoms[t]);
+            workers[t] = new Thread(() -> {
+                for (int i = next.getAndIncrement(); i < games; i = next.getAndIncrement()) {
+                    BitBoardT board = new BitBoardT(RandomT.of(seed, i));
+                    moves[worker] += play(board, player);
+                    result.marks[i] = board.getMarks();
+                    result.maxTiles[i] = maxTile(board.board);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        result.nanos = System.nanoTime() - start;
+        result.moves = Arrays.stream(moves).sum();
+        return result;
+    }
+
+    /**
+     * @brief Playing one game to the end.
+     * @param board - an empty game board
+     * @param player - the player choosing the moves
+     * @return The number of moves played.
+     */
+    public static int play(Board board, PolicyT player) {
+        board.startBoard();
+        int moves = 0;
+        for (MoveT move = player.chooseMove(board); move != null; move = player.chooseMove(board)) {
+            board.moveBoard(move);
+            board.addCell(RandomT.tile(board.getRandom()));
+            moves++;
+        }
+        board.isOver();
+        return moves;
+    }
+
+    /**
+     * @brief The largest tile of a packed board.
+     * @param board - a packed board
+     * @return The value of the largest tile, 0 for an empty board.
+     */
+    public static int maxTile(long board) {
+        int max = 0;
+        for (int i = 0; i < 16; i++) {
+            max = Math.max(max, (int) (board >>> (4 * i)) & 0xF);
+        }
+        return max == 0 ? 0 : 1 << max;
+    }
+
+    /**
+     * @brief Creating a player factory from its name.
+     * @param name - random, greedy, ai, montecarlo or ntuple:file
+     * @throws IOException - if an n-tuple network cannot be loaded
+     * @throws IllegalArgumentException - if the name is unknown
+     * @return A factory of players for the threads.
+     */
+    public static Function<RandomT, PolicyT> players(String name) throws IOException {
+        if (name.equals("random")) {
+            return RandomPolicyT::new;
+        } else if (name.equals("greedy")) {
+            return random -> new GreedyPolicyT();
+        } else if (name.equals("ai")) {
+            return random -> new ExpectimaxT();
+        } else if (name.equals("montecarlo")) {
+            return random -> new MonteCarloT(100, 0, random);
+        } else if (name.startsWith("ntuple:")) {
+            NTupleT network = NTupleT.load(Path.of(name.substring("ntuple:".length())));
+            return random -> new NTupleT(network);
+        }
+        throw new IllegalArgumentException("unknown player: " + name);
+    }
+
+    /**
+     * @brief Playing a series from the command line and printing its report.
+     * @param args - optionally the player, games, threads and seed
+     * @throws Exception - if the player cannot be created or the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        String player = args.length > 0 ? args[0] : "random";
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        System.out.print(new BatchT(players(player), threads).run(games, seed));
+    }
+
+}
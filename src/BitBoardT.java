@@ -0,0 +1,463 @@
+/**
+ * @file: BitBoardT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A game board packed into a single 64-bit long.
+ */
+
+package src;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief Representing the game board as 16 cells of 4 bits each, where every cell stores the
+ * log2 of its tile value (0 for an empty cell, 1 for 2, 2 for 4, ..., 15 for 32768).
+ * Cell (x, y) lives in the nibble starting at bit 4 * (4 * x + y), so row x takes the bits
+ * 16 * x to 16 * x + 15 with column 0 in the lowest nibble.
+ */
+public class BitBoardT implements PackedBoard {
+    public long board;
+    public boolean status;
+    public int marks;
+
+    private final RandomGenerator random;
+    private ReplayT.Writer recorder;
+
+    public final static int size = 4;
+
+    // the largest exponent a 4-bit cell can hold, two 32768 tiles never merge
+    public final static int MAX_EXPONENT = 15;
+
+    /**
+     * @brief A constructor for a new game board.
+     * @return An empty game board with all cells equal to 0.
+     */
+    public BitBoardT() {
+        this(new RandomT());
+    }
+
+    /**
+     * @brief A constructor for a new game board whose spawns are reproducible from a seed.
+     * @param seed - the seed of the board's random generator
+     * @return An empty game board with all cells equal to 0.
+     */
+    public BitBoardT(long seed) {
+        this(new RandomT(seed));
+    }
+
+    /**
+     * @brief A constructor for a new game board owning the given random generator.
+     * @param random - the generator used for spawning tiles
+     * @return An empty game board with all cells equal to 0.
+     */
+    public BitBoardT(RandomGenerator random) {
+        this.random = random;
+        this.status = true;
+        this.marks = 0;
+        this.board = 0L;
+    }
+
+    /**
+     * @brief A constructor for a game board with given cells.
+     * @param board - the packed cells
+     * @param random - the generator used for spawning tiles
+     * @return A game board with the given cells and no marks.
+     */
+    public BitBoardT(long board, RandomGenerator random) {
+        this(random);
+        this.board = board;
+    }
+
+    /**
+     * @brief Generating a random starting board.
+     */
+    public void startBoard() {
+        this.addCell(2);
+        this.addCell(RandomT.tile(this.random));
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num) {
+        this.addCell(num, this.random);
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @param random - the generator choosing the empty cell
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num, RandomGenerator random) {
+        int empty = emptyMask(this.board);
+        if (empty == 0) {
+            throw new RuntimeException();
+        }
+        int cell = randomCell(empty, random);
+        this.board |= (long) exponent(num) << (4 * cell);
+        if (this.recorder != null) {
+            this.recorder.spawn(cell, exponent(num));
+        }
+    }
+
+    /**
+     * @brief Recording every following move and spawn in a replay log. Set it once the game has
+     * started and ReplayT.Writer.begin has been called with the starting board.
+     * @param recorder - the writer of the log, or null to stop recording
+     */
+    public void setRecorder(ReplayT.Writer recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * @brief A getter for the number of rows of the board.
+     * @return The number of rows, always 4.
+     */
+    public int getRows(){
+        return size;
+    }
+
+    /**
+     * @brief A getter for the number of columns of the board.
+     * @return The number of columns, always 4.
+     */
+    public int getColumns(){
+        return size;
+    }
+
+    /**
+     * @brief A getter for the random generator owned by the board.
+     * @return The generator used for spawning tiles.
+     */
+    public RandomGenerator getRandom(){
+        return this.random;
+    }
+
+    /**
+     * @brief A getter for the status of the game.
+     * @return The status of the game where false for game over and true for game on.
+     */
+    public boolean getStatus(){
+        return this.status;
+    }
+
+    /**
+     * @brief A getter for the current marks of the game.
+     * @return The current marks of the game.
+     */
+    public int getMarks(){
+        return this.marks;
+    }
+
+    /**
+     * @brief A getter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return The tile value, 0 for an empty cell.
+     */
+    public int getCell(int x, int y){
+        checkIndex(x, y);
+        int e = (int) (this.board >>> (4 * (size * x + y))) & 0xF;
+        return e == 0 ? 0 : 1 << e;
+    }
+
+    /**
+     * @brief A setter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @param num - the new number of the cell, 0 or a power of two up to 32768
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @throws IllegalArgumentException - if num cannot be stored in a 4-bit cell
+     */
+    public void setCell(int x, int y, int num){
+        checkIndex(x, y);
+        int shift = 4 * (size * x + y);
+        this.board = (this.board & ~(0xFL << shift)) | ((long) exponent(num) << shift);
+    }
+
+    /**
+     * @brief Determining whether a cell is empty.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return Return true if the cell is 0, otherwise false.
+     */
+    public boolean isEmpty(int x, int y){
+        checkIndex(x, y);
+        return ((this.board >>> (4 * (size * x + y))) & 0xF) == 0;
+    }
+
+    /**
+     * @brief Determining whether a game board is full.
+     * @return Return true if there is no 0 cell, otherwise false.
+     */
+    public boolean isFull(){
+        return emptyMask(this.board) == 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible horizontal moves.
+     * @return Return true if two neighbouring cells in a row are equal and below 32768, otherwise false.
+     */
+    public boolean horizontalCheck(){
+        // compare every cell with its right neighbour, the last column has none
+        long diff = this.board ^ (this.board >>> 4);
+        return zeroNibbles(diff | 0xF000F000F000F000L | largestTiles(this.board)) != 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible vertical moves.
+     * @return Return true if two neighbouring cells in a column are equal and below 32768, otherwise false.
+     */
+    public boolean verticalCheck(){
+        // compare every cell with the cell below, the last row has none
+        long diff = this.board ^ (this.board >>> 16);
+        return zeroNibbles(diff | 0xFFFF000000000000L | largestTiles(this.board)) != 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible moves, if no possible moves, change game status to false.
+     * @return Return true if the game is over, otherwise false.
+     */
+    public boolean isOver(){
+        if (this.isFull() && ! this.verticalCheck() && ! this.horizontalCheck()) {
+            this.status = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @brief Performing a move, merge all possible cells and update marks.
+     * @param move - a MoveT object
+     * @throws RuntimeException - if the board is full and there is no possible merge along the move
+     */
+    public void moveBoard(MoveT move) {
+        boolean vertical = move == MoveT.Up || move == MoveT.Down;
+        if (this.isFull() && ! (vertical ? this.verticalCheck() : this.horizontalCheck())) {
+            throw new RuntimeException();
+        }
+        if (this.recorder != null) {
+            this.recorder.move(move);
+        }
+        this.marks += MoveTableT.score(this.board, move);
+        this.board = MoveTableT.move(this.board, move);
+    }
+
+    /**
+     * @brief Determining which moves change the board, without performing any of them.
+     * @return A mask with MoveT.bit() set for every legal move, 0 if the game is over.
+     */
+    public int legalMoves() {
+        return legalMoves(this.board);
+    }
+
+    /**
+     * @brief Restoring a previous state of the game.
+     * @param board - the packed cells
+     * @param marks - the marks
+     * @param status - the status of the game
+     */
+    public void restore(long board, int marks, boolean status) {
+        this.board = board;
+        this.marks = marks;
+        this.status = status;
+    }
+
+    /**
+     * @brief Determining which moves change a packed board.
+     * @param board - a packed board
+     * @return A mask with MoveT.bit() set for every legal move.
+     */
+    public static int legalMoves(long board) {
+        long transposed = transpose(board);
+        int legal = 0;
+        for (int i = 0; i < size; i++) {
+            int row = (int) ((board >>> (16 * i)) & 0xFFFF);
+            int column = (int) ((transposed >>> (16 * i)) & 0xFFFF);
+            if (MoveTableT.moveLeft(row) != row) {
+                legal |= MoveT.Left.bit();
+            }
+            if (MoveTableT.moveRight(row) != row) {
+                legal |= MoveT.Right.bit();
+            }
+            if (MoveTableT.moveLeft(column) != column) {
+                legal |= MoveT.Up.bit();
+            }
+            if (MoveTableT.moveRight(column) != column) {
+                legal |= MoveT.Down.bit();
+            }
+        }
+        return legal;
+    }
+
+    /**
+     * @brief Pack the cells of any board engine into a long.
+     * @param board - a game board
+     * @throws IllegalArgumentException - if the board is not 4x4 or a cell cannot be stored in a 4-bit cell
+     * @return The packed cells of the board.
+     */
+    public static long pack(Board board) {
+        if (board instanceof BitBoardT) {
+            return ((BitBoardT) board).board;
+        }
+        if (board.getRows() != size || board.getColumns() != size) {
+            throw new IllegalArgumentException("only 4x4 boards can be packed, not "
+                    + board.getRows() + "x" + board.getColumns());
+        }
+        long result = 0L;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int num = board.getCell(i, j);
+                if (! packable(num)) {
+                    throw new IllegalArgumentException("tile " + num + " at (" + i + ", " + j
+                            + ") cannot be packed, the largest tile is " + (1 << MAX_EXPONENT));
+                }
+                result |= (long) exponent(num) << (4 * (size * i + j));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @brief Transpose the board so that columns become rows.
+     * @param x - a packed board
+     * @return The packed board mirrored along its main diagonal.
+     */
+    public static long transpose(long x) {
+        long a1 = x & 0xF0F00F0FF0F00F0FL;
+        long a2 = x & 0x0000F0F00000F0F0L;
+        long a3 = x & 0x0F0F00000F0F0000L;
+        long a = a1 | (a2 << 12) | (a3 >>> 12);
+        long b1 = a & 0xFF00FF0000FF00FFL;
+        long b2 = a & 0x00FF00FF00000000L;
+        long b3 = a & 0x00000000FF00FF00L;
+        return b1 | (b2 >>> 24) | (b3 << 24);
+    }
+
+    /**
+     * @brief Mirror the board left to right.
+     * @param x - a packed board
+     * @return The packed board with the columns of every row reversed.
+     */
+    public static long mirror(long x) {
+        return ((x & 0x000F000F000F000FL) << 12) | ((x & 0x00F000F000F000F0L) << 4)
+                | ((x >>> 4) & 0x00F000F000F000F0L) | ((x >>> 12) & 0x000F000F000F000FL);
+    }
+
+    /**
+     * @brief Flip the board top to bottom.
+     * @param x - a packed board
+     * @return The packed board with its rows in reverse order.
+     */
+    public static long flip(long x) {
+        return (x << 48) | ((x & 0xFFFF0000L) << 16) | ((x >>> 16) & 0xFFFF0000L) | (x >>> 48);
+    }
+
+    /**
+     * @brief Collect the empty cells of a packed board.
+     * @param x - a packed board
+     * @return A 16-bit mask with bit (4 * x + y) set when cell (x, y) is empty.
+     */
+    public static int emptyMask(long x) {
+        return zeroNibbles(x);
+    }
+
+    /**
+     * @brief Pick one of the cells of a mask uniformly, without retrying occupied cells.
+     * @param mask - a non-zero 16-bit mask of candidate cells
+     * @param random - the generator making the choice
+     * @return The index (4 * x + y) of the k-th set bit of the mask for a random k.
+     */
+    public static int randomCell(int mask, RandomGenerator random) {
+        int k = random.nextInt(Integer.bitCount(mask));
+        for (int i = 0; i < k; i++) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * @brief Pick one of the cells of a mask uniformly, for boards of up to 64 cells.
+     * @param mask - a non-zero mask of candidate cells
+     * @param random - the generator making the choice
+     * @return The index of the k-th set bit of the mask for a random k.
+     */
+    public static int randomCell(long mask, RandomGenerator random) {
+        int k = random.nextInt(Long.bitCount(mask));
+        for (int i = 0; i < k; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * @brief The cells holding the largest tile, which merges no further.
+     * @param x - a packed board
+     * @return A long with every nibble of a 32768 set to F, every other nibble 0.
+     */
+    private static long largestTiles(long x) {
+        return (x & (x >>> 1) & (x >>> 2) & (x >>> 3) & 0x1111111111111111L) * 0xF;
+    }
+
+    /**
+     * @brief Collect the zero nibbles of a long into a 16-bit mask.
+     * @param x - a long viewed as 16 nibbles
+     * @return A mask with bit i set when nibble i is zero.
+     */
+    private static int zeroNibbles(long x) {
+        // fold every nibble onto its lowest bit, which is then 1 only for non-zero nibbles
+        x |= (x >>> 2);
+        x |= (x >>> 1);
+        x = ~x & 0x1111111111111111L;
+        // gather the 16 flags into the low 16 bits
+        x = (x | (x >>> 3)) & 0x0303030303030303L;
+        x = (x | (x >>> 6)) & 0x000F000F000F000FL;
+        x = (x | (x >>> 12)) & 0x000000FF000000FFL;
+        x = (x | (x >>> 24)) & 0xFFFFL;
+        return (int) x;
+    }
+
+    /**
+     * @brief Convert a tile value to the exponent stored in a cell.
+     * @param num - 0 or a power of two up to 32768
+     * @throws IllegalArgumentException - if num cannot be stored in a 4-bit cell
+     * @return The log2 of num, or 0 for an empty cell.
+     */
+    public static int exponent(int num) {
+        if (num == 0) {
+            return 0;
+        }
+        if (! packable(num)) {
+            throw new IllegalArgumentException("tile " + num + " cannot be stored in a 4-bit cell");
+        }
+        return Integer.numberOfTrailingZeros(num);
+    }
+
+    /**
+     * @brief Determining whether a tile value can be stored in a 4-bit cell.
+     * @param num - a tile value
+     * @return Return true for 0 and the powers of two from 2 to 32768, otherwise false.
+     */
+    public static boolean packable(int num) {
+        return num == 0 || (num >= 2 && Integer.bitCount(num) == 1
+                && Integer.numberOfTrailingZeros(num) <= MAX_EXPONENT);
+    }
+
+    /**
+     * @brief Check that a coordinate is located on the board.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     */
+    private static void checkIndex(int x, int y) {
+        if (x < 0 || y < 0 || x > size - 1 || y > size - 1) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+}
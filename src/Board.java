@@ -0,0 +1,117 @@
+/**
+ * @file: Board.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The common interface of the game board engines.
+ */
+
+package src;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief The operations shared by every game board engine (GridBoardT, BoardT, BitBoardT, HugeBoardT).
+ */
+public interface Board {
+
+    /**
+     * @brief Generating a random starting board.
+     */
+    void startBoard();
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @throws RuntimeException - if the game is over.
+     */
+    void addCell(int num);
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @param random - the generator choosing the empty cell
+     * @throws RuntimeException - if the game is over.
+     */
+    void addCell(int num, RandomGenerator random);
+
+    /**
+     * @brief A getter for the number of rows of the board.
+     * @return The number of rows.
+     */
+    int getRows();
+
+    /**
+     * @brief A getter for the number of columns of the board.
+     * @return The number of columns.
+     */
+    int getColumns();
+
+    /**
+     * @brief A getter for the random generator owned by the board.
+     * @return The generator used for spawning tiles.
+     */
+    RandomGenerator getRandom();
+
+    /**
+     * @brief A getter for the status of the game.
+     * @return The status of the game where false for game over and true for game on.
+     */
+    boolean getStatus();
+
+    /**
+     * @brief A getter for the current marks of the game.
+     * @return The current marks of the game.
+     */
+    int getMarks();
+
+    /**
+     * @brief A getter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return The tile value, 0 for an empty cell.
+     */
+    int getCell(int x, int y);
+
+    /**
+     * @brief A setter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @param num - the new number of the cell
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     */
+    void setCell(int x, int y, int num);
+
+    /**
+     * @brief Determining whether a cell is empty.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return Return true if the cell is 0, otherwise false.
+     */
+    boolean isEmpty(int x, int y);
+
+    /**
+     * @brief Determining whether a game board is full.
+     * @return Return true if there is no 0 cell, otherwise false.
+     */
+    boolean isFull();
+
+    /**
+     * @brief Determining whether a game board has possible moves, if no possible moves, change game status to false.
+     * @return Return true if the game is over, otherwise false.
+     */
+    boolean isOver();
+
+    /**
+     * @brief Performing a move.
+     * @param move - a MoveT object
+     */
+    void moveBoard(MoveT move);
+
+    /**
+     * @brief Determining which moves change the board, without performing any of them.
+     * @return A mask with MoveT.bit() set for every legal move, 0 if the game is over.
+     */
+    int legalMoves();
+}
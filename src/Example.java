@@ -7,9 +7,55 @@
 
 package src;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 public class Example
 {
-    public static void main(String[] args) {
-        PlayT game = new PlayT();
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("batch")) {
+            BatchT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("server")) {
+            ServerT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("nio")) {
+            NioServerT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("load")) {
+            LoadT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("record")) {
+            ReplayT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("verify")) {
+            VerifierT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("huge")) {
+            HugeBoardT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("book")) {
+            OpeningBookT.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("ai")) {
+            ExpectimaxT player = new ExpectimaxT();
+            PlayT game = new PlayT(new BitBoardT(), player);
+            System.out.println(player.getReport());
+        } else if (args.length > 0 && args[0].equals("watch")) {
+            // an automated game redrawn in place on an ANSI terminal
+            ExpectimaxT player = new ExpectimaxT();
+            PlayT game = new PlayT(new BitBoardT(), player, new UI(new RendererT(System.out, true)));
+            System.out.println(player.getReport());
+        } else if (args.length > 0 && args[0].equals("parallel")) {
+            ParallelExpectimaxT player = new ParallelExpectimaxT();
+            PlayT game = new PlayT(new BitBoardT(), player);
+            System.out.println(player.getReport());
+        } else if (args.length > 0 && args[0].equals("montecarlo")) {
+            MonteCarloT player = new MonteCarloT();
+            PlayT game = new PlayT(new BitBoardT(), player);
+            System.out.println(player.getReport());
+        } else if (args.length > 1 && args[0].equals("ntuple")) {
+            PlayT game = new PlayT(new BitBoardT(), NTupleT.load(Path.of(args[1])));
+        } else if (args.length > 0 && args[0].equals("script")) {
+            PlayT.playScript(new BitBoardT(), new BufferedReader(new InputStreamReader(System.in)), System.out);
+        } else if (args.length > 0 && args[0].equals("bit")) {
+            PlayT game = new PlayT(new BitBoardT());
+        } else {
+            PlayT game = new PlayT();
+        }
     }
 }
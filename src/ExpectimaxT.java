@@ -0,0 +1,193 @@
+/**
+ * @file: ExpectimaxT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An automated player searching moves and tile spawns with expectimax.
+ */
+
+package src;
+
+/**
+ * @brief An expectimax search over packed boards. Max nodes choose among the legal moves,
+ * chance nodes average over every empty cell receiving a 2 (90%) or a 4 (10%). Branches whose
+ * probability falls below a cutoff are evaluated by HeuristicT instead of searched, the depth
+ * grows as the board fills up, and chance nodes are cached in a TranspositionT.
+ */
+public class ExpectimaxT implements PolicyT {
+
+    // branches less likely than this are not searched any further
+    public final static float PROBABILITY_CUTOFF = 0.0001f;
+
+    private final static float TWO_PROBABILITY = (float) (1 - RandomT.FOUR_PROBABILITY);
+    private final static float FOUR_PROBABILITY = (float) RandomT.FOUR_PROBABILITY;
+
+    private final TranspositionT table;
+    private final int maxDepth;
+    private final MoveSetT root = new MoveSetT();
+    private final MoveSetT[] levels;
+
+    private long nodes;
+    private long nanos;
+
+    /**
+     * @brief A constructor for a searcher with its own table of 2^18 entries and a maximum depth of 3.
+     */
+    public ExpectimaxT() {
+        this(new TranspositionTableT(18), 3);
+    }
+
+    /**
+     * @brief A constructor for a searcher.
+     * @param table - the cache of searched chance nodes
+     * @param maxDepth - the largest number of spawn-and-move plies searched below a root move
+     */
+    public ExpectimaxT(TranspositionT table, int maxDepth) {
+        this.table = table;
+        this.maxDepth = maxDepth;
+        this.levels = new MoveSetT[maxDepth + 1];
+        for (int i = 0; i < this.levels.length; i++) {
+            this.levels[i] = new MoveSetT();
+        }
+    }
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return The move with the highest expected value, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        return this.bestMove(BitBoardT.pack(board));
+    }
+
+    /**
+     * @brief Choosing the next move on a packed board.
+     * @param board - a packed board
+     * @return The move with the highest expected value, or null if there is no legal move.
+     */
+    public MoveT bestMove(long board) {
+        long start = System.nanoTime();
+        this.table.nextGeneration();
+        MoveSetT moves = this.root.expand(board);
+        int depth = this.depthFor(board);
+        MoveT best = null;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (MoveT move : MoveT.values()) {
+            if (moves.isLegal(move)) {
+                float value = this.chance(moves.getBoard(move), depth, 1.0f);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = move;
+                }
+            }
+        }
+        this.nanos += System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * @brief The search depth for a board, deeper when fewer cells are empty.
+     * @param board - a packed board
+     * @return A depth between 1 and the maximum depth.
+     */
+    public int depthFor(long board) {
+        int empty = Integer.bitCount(BitBoardT.emptyMask(board));
+        int depth = empty > 6 ? 2 : empty > 3 ? 3 : 4;
+        return Math.max(1, Math.min(depth, this.maxDepth));
+    }
+
+    /**
+     * @brief The expected value of a board before a tile spawns.
+     * @param board - a packed board right after a move
+     * @param depth - the remaining number of spawn-and-move plies
+     * @param probability - the probability of reaching this board from the root
+     * @return The average value over every possible spawn.
+     */
+    float chance(long board, int depth, float probability) {
+        if (depth == 0 || probability < PROBABILITY_CUTOFF) {
+            this.nodes++;
+            return HeuristicT.evaluate(board);
+        }
+        // the 8 symmetries of a board have the same value, so they share one entry and one search
+        board = SymmetryT.canonical(board);
+        float cached = this.table.get(board, depth);
+        if (! Float.isNaN(cached)) {
+            return cached;
+        }
+        this.nodes++;
+        int empty = BitBoardT.emptyMask(board);
+        int count = Integer.bitCount(empty);
+        float two = probability * TWO_PROBABILITY / count;
+        float four = probability * FOUR_PROBABILITY / count;
+        float sum = 0;
+        for (int mask = empty; mask != 0; mask &= mask - 1) {
+            long tile = 1L << (4 * Integer.numberOfTrailingZeros(mask));
+            sum += TWO_PROBABILITY * this.max(board | tile, depth, two);
+            sum += FOUR_PROBABILITY * this.max(board | (tile << 1), depth, four);
+        }
+        float value = sum / count;
+        this.table.put(board, depth, value);
+        return value;
+    }
+
+    /**
+     * @brief The value of a board when the player is to move.
+     * @param board - a packed board right after a spawn
+     * @param depth - the remaining number of spawn-and-move plies
+     * @param probability - the probability of reaching this board from the root
+     * @return The best value over the legal moves, 0 if the game is over.
+     */
+    float max(long board, int depth, float probability) {
+        this.nodes++;
+        MoveSetT moves = this.levels[depth].expand(board);
+        float best = 0;
+        for (int i = 0; i < moves.boards.length; i++) {
+            if ((moves.legal & (1 << i)) != 0) {
+                best = Math.max(best, this.chance(moves.boards[i], depth - 1, probability));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief A getter for the number of nodes searched so far.
+     * @return The number of nodes.
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @brief A getter for the time spent searching so far.
+     * @return The time in nanoseconds.
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @brief The search speed so far.
+     * @return The number of nodes searched per second.
+     */
+    public double getNodesPerSecond() {
+        return this.nanos == 0 ? 0 : this.nodes * 1e9 / this.nanos;
+    }
+
+    /**
+     * @brief The share of table lookups that found a value.
+     * @return The hit rate between 0 and 1.
+     */
+    public double getHitRate() {
+        long lookups = this.table.getLookups();
+        return lookups == 0 ? 0 : (double) this.table.getHits() / lookups;
+    }
+
+    /**
+     * @brief A one-line summary of the search statistics.
+     * @return The nodes, nodes per second and table hit rate.
+     */
+    public String getReport() {
+        return String.format("nodes: %d, nodes/sec: %.0f, table hit rate: %.1f%%",
+                this.nodes, this.getNodesPerSecond(), 100 * this.getHitRate());
+    }
+
+}
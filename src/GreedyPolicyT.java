@@ -0,0 +1,38 @@
+/**
+ * @file: GreedyPolicyT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An automated player choosing the move with the most immediate marks.
+ */
+
+package src;
+
+/**
+ * @brief A player choosing the legal move that gains the most marks right away, preferring the
+ * earlier move in MoveT order on ties.
+ */
+public class GreedyPolicyT implements PolicyT {
+    private final MoveSetT moves = new MoveSetT();
+
+    /**
+     * @brief A constructor for a greedy player.
+     */
+    public GreedyPolicyT() {}
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return The legal move with the most marks, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        MoveSetT outcomes = this.moves.expand(BitBoardT.pack(board));
+        MoveT best = null;
+        for (MoveT move : MoveT.values()) {
+            if (outcomes.isLegal(move) && (best == null || outcomes.getScore(move) > outcomes.getScore(best))) {
+                best = move;
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,558 @@
+/**
+ * @file: GridBoardT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An ADT representing a game board of any size.
+ */
+
+package src;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief Representing a game board of any number of rows and columns, up to 64 cells. BoardT is
+ * the 4x4 board, the only size whose cells pack into a long. The cells are kept row by row in an
+ * int array, which moves slide in place. A 4x4 board follows the rule of the packed engines and
+ * never merges two 32768s, so that it plays exactly like BitBoardT; boards of other sizes merge
+ * tiles of any value.
+ */
+public class GridBoardT implements Board {
+    // the cells row by row, a read-only view of cells
+    public final List<List<Integer>> board;
+    public boolean status;
+    public int marks;
+
+    // cell (x, y) at index (columns * x + y)
+    private final int[] cells;
+    // bit (columns * x + y) is set when cell (x, y) is empty, kept up to date by setCell and every move
+    private long emptyMask;
+    // number of equal neighbouring cells in rows and in columns, kept up to date by setCell and every move
+    private int horizontalPairs;
+    private int verticalPairs;
+    private final RandomGenerator random;
+    private final int rows;
+    private final int columns;
+    // the tile that merges no further, 0 if every pair of equal tiles merges
+    private final int maxTile;
+
+    // the largest number of cells, one bit of the empty mask each
+    public final static int MAX_CELLS = 64;
+
+    /**
+     * @brief A constructor for a new game board of any size.
+     * @param rows - the number of rows
+     * @param columns - the number of columns
+     * @throws IllegalArgumentException - if a dimension is below 1 or the board has more than 64 cells
+     * @return An empty game board with all cells equal to 0.
+     */
+    public GridBoardT(int rows, int columns) {
+        this(rows, columns, new RandomT());
+    }
+
+    /**
+     * @brief A constructor for a new game board of any size owning the given random generator.
+     * @param rows - the number of rows
+     * @param columns - the number of columns
+     * @param random - the generator used for spawning tiles
+     * @throws IllegalArgumentException - if a dimension is below 1 or the board has more than 64 cells
+     * @return An empty game board with all cells equal to 0.
+     */
+    public GridBoardT(int rows, int columns, RandomGenerator random) {
+        if (rows < 1 || columns < 1 || rows * columns > MAX_CELLS) {
+            throw new IllegalArgumentException();
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new int[rows * columns];
+        this.maxTile = rows == BitBoardT.size && columns == BitBoardT.size ? 1 << BitBoardT.MAX_EXPONENT : 0;
+        this.random = random;
+        this.status = true;
+        this.marks = 0;
+        List<List<Integer>> view = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            view.add(new RowView(columns * i));
+        }
+        this.board = Collections.unmodifiableList(view);
+        this.emptyMask = -1L >>> (MAX_CELLS - rows * columns);
+        this.horizontalPairs = rows * (columns - 1);
+        this.verticalPairs = columns * (rows - 1);
+    }
+
+    /**
+     * @brief Generating a random starting board.
+     * @return A random starting board.
+     */
+    public void startBoard() {
+        this.addCell(2);
+        this.addCell(RandomT.tile(this.random));
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num) {
+        this.addCell(num, this.random);
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @param random - the generator choosing the empty cell
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num, RandomGenerator random) {
+        this.spawn(num, random);
+    }
+
+    /**
+     * @brief Assigning a number to a random empty cell.
+     * @param num - the number to assign
+     * @param random - the generator choosing the empty cell
+     * @throws RuntimeException - if the game is over.
+     * @return The index (columns * x + y) of the cell.
+     */
+    int spawn(int num, RandomGenerator random) {
+        if (this.emptyMask == 0) {
+            throw new RuntimeException();
+        }
+        int cell = BitBoardT.randomCell(this.emptyMask, random);
+        this.setCell(cell / this.columns, cell % this.columns, num);
+        return cell;
+    }
+
+    /**
+     * @brief A getter for the number of rows of the board.
+     * @return The number of rows.
+     */
+    public int getRows(){
+        return this.rows;
+    }
+
+    /**
+     * @brief A getter for the number of columns of the board.
+     * @return The number of columns.
+     */
+    public int getColumns(){
+        return this.columns;
+    }
+
+    /**
+     * @brief A getter for the random generator owned by the board.
+     * @return The generator used for spawning tiles.
+     */
+    public RandomGenerator getRandom(){
+        return this.random;
+    }
+
+    /**
+     * @brief A getter for the status of the game.
+     * @return The status of the game where false for game over and true for game on.
+     */
+    public boolean getStatus(){
+        return this.status;
+    }
+
+    /**
+     * @brief A getter for the current marks of the game.
+     * @return The current marks of the game.
+     */
+    public int getMarks(){
+        return this.marks;
+    }
+
+    /**
+     * @brief A getter for the cell type at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return A CellT object.
+     */
+    public int getCell(int x, int y){
+        return this.cells[this.index(x, y)];
+    }
+
+    /**
+     * @brief A setter for the cell type at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @param num - the new number of the cell
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     */
+    public void setCell(int x, int y, int num){
+        int i = this.index(x, y);
+        int old = this.cells[i];
+        this.cells[i] = num;
+        if (y > 0) {
+            this.horizontalPairs += pairChange(old, num, this.cells[i - 1]);
+        }
+        if (y < this.columns - 1) {
+            this.horizontalPairs += pairChange(old, num, this.cells[i + 1]);
+        }
+        if (x > 0) {
+            this.verticalPairs += pairChange(old, num, this.cells[i - this.columns]);
+        }
+        if (x < this.rows - 1) {
+            this.verticalPairs += pairChange(old, num, this.cells[i + this.columns]);
+        }
+        if (num == 0) {
+            this.emptyMask |= 1L << i;
+        } else {
+            this.emptyMask &= ~(1L << i);
+        }
+    }
+
+    /**
+     * @brief Determining whether a cell is empty.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return A CellT object.
+     */
+    public boolean isEmpty(int x, int y){
+        return this.getCell(x, y) == 0;
+    }
+
+    // is full --> no 0 cell, is over --> is full & no possible moves
+    /**
+     * @brief Determining whether a game board is full.
+     * @return Return true if there is no 0 cell, otherwise false.
+     */
+    public boolean isFull(){
+        return this.emptyMask == 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible horizontal moves.
+     * @return Return true if there is, otherwise false.
+     */
+    public boolean horizontalCheck(){
+        return this.horizontalPairs > 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible vertical moves.
+     * @return Return true if there is, otherwise false.
+     */
+    public boolean verticalCheck(){
+        return this.verticalPairs > 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible moves, if no possible moves, change game status to false.
+     * @return Return true if the game is over, otherwise false.
+     */
+    public boolean isOver(){
+        if (this.isFull()){
+            // no possible horizontal & vertical moves --> game over
+            if (! this.verticalCheck() && ! this.horizontalCheck()) {
+                this.status = false;
+                return true;
+            } else {
+                return false;
+            }
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @brief Performing a move.
+     * @param move - a MoveT object
+     */
+    public void moveBoard(MoveT move) {
+        if (move == MoveT.Down) {
+            this.down();
+        } else if (move == MoveT.Up) {
+            this.up();
+        } else if (move == MoveT.Left) {
+            this.left();
+        } else {
+            this.right();
+        }
+    }
+
+    /**
+     * @brief Determining which moves change the board, without performing any of them.
+     * @return A mask with MoveT.bit() set for every legal move, 0 if the game is over.
+     */
+    public int legalMoves() {
+        int[] cells = this.cells;
+        int legal = 0;
+        for (int i = 0; i < cells.length; i++) {
+            if (i % this.columns < this.columns - 1 && this.canMeet(cells[i], cells[i + 1])) {
+                legal |= pairMoves(cells[i], cells[i + 1], MoveT.Left, MoveT.Right);
+            }
+            if (i + this.columns < cells.length && this.canMeet(cells[i], cells[i + this.columns])) {
+                legal |= pairMoves(cells[i], cells[i + this.columns], MoveT.Up, MoveT.Down);
+            }
+        }
+        return legal;
+    }
+
+    /**
+     * @brief The moves made legal by two neighbouring cells of a line.
+     * @param first - the cell closer to index 0
+     * @param second - the cell further from index 0
+     * @param toFirst - the move sliding towards index 0
+     * @param toSecond - the move sliding away from index 0
+     * @return The mask of the moves that change this pair.
+     */
+    static int pairMoves(int first, int second, MoveT toFirst, MoveT toSecond) {
+        // a line changes iff some tile can slide into an empty neighbour or merge with an equal one
+        if (first == 0 && second == 0) {
+            return 0;
+        } else if (first == second) {
+            return toFirst.bit() | toSecond.bit();
+        } else if (first == 0) {
+            return toFirst.bit();
+        } else if (second == 0) {
+            return toSecond.bit();
+        }
+        return 0;
+    }
+
+    // perform move
+    /**
+     * @brief Performing the Down move to current game board, merge all possible cells and update marks.
+     * @throws RuntimeException - if there is no possible moves vertically
+     */
+    public void down(){
+        if (! this.isFull() || this.verticalCheck()) {
+            for (int col = 0; col < this.columns; col ++) {
+                mergeLine(col, false, false);
+            }
+            this.recount();
+        } else {
+            throw new RuntimeException();
+        }
+    }
+
+    /**
+     * @brief Merge a column if we have a Down move.
+     * @param colIndex - the index of merged column
+     */
+    public void mergeColumnDown(int colIndex){
+        mergeLine(colIndex, false, false);
+        this.recount();
+    }
+
+    /**
+     * @brief Performing the Up move to current game board, merge all possible cells and update marks.
+     * @throws RuntimeException - if there is no possible moves vertically
+     */
+    public void up(){
+        if (! this.isFull() || this.verticalCheck()) {
+            for (int col = 0; col < this.columns; col ++) {
+                mergeLine(col, false, true);
+            }
+            this.recount();
+        } else {
+            throw new RuntimeException();
+        }
+    }
+
+    /**
+     * @brief Merge a column if we have a Up move.
+     * @param colIndex - the index of merged column
+     */
+    public void mergeColumnUp(int colIndex){
+        mergeLine(colIndex, false, true);
+        this.recount();
+    }
+
+    /**
+     * @brief Performing the Left move to current game board, merge all possible cells and update marks.
+     * @throws RuntimeException - if there is no possible moves horizontally
+     */
+    public void left(){
+        if (! this.isFull() || this.horizontalCheck()) {
+            for (int row = 0; row < this.rows; row ++) {
+                mergeLine(row, true, true);
+            }
+            this.recount();
+        } else {
+            throw new RuntimeException();
+        }
+    }
+
+    /**
+     * @brief Merge a row if we have a Left move.
+     * @param rowIndex - the index of merged column
+     */
+    public void mergeRowLeft(int rowIndex){
+        mergeLine(rowIndex, true, true);
+        this.recount();
+    }
+
+    /**
+     * @brief Performing the Right move to current game board, merge all possible cells and update marks.
+     * @throws RuntimeException - if there is no possible moves horizontally
+     */
+    public void right(){
+        if (! this.isFull() || this.horizontalCheck()) {
+            for (int row = 0; row < this.rows; row ++) {
+                mergeLine(row, true, false);
+            }
+            this.recount();
+        } else {
+            throw new RuntimeException();
+        }
+    }
+
+    /**
+     * @brief Merge a row if we have a Right move.
+     * @param rowIndex - the index of merged column
+     */
+    public void mergeRowRight(int rowIndex){
+        mergeLine(rowIndex, true, false);
+        this.recount();
+    }
+
+    /**
+     * @brief The change in the number of equal pairs when a cell next to a neighbour changes.
+     * @param old - the old number of the cell
+     * @param num - the new number of the cell
+     * @param neighbour - the number of the neighbouring cell
+     * @return -1 if a pair is lost, 1 if a pair is gained, otherwise 0.
+     */
+    private int pairChange(int old, int num, int neighbour){
+        return (this.merges(num, neighbour) ? 1 : 0) - (this.merges(old, neighbour) ? 1 : 0);
+    }
+
+    /**
+     * @brief Determining whether two neighbouring cells are an equal pair that a move changes.
+     * @param first - the number of a cell
+     * @param second - the number of its neighbour
+     * @return Return true if the cells are equal and not the largest tile, otherwise false.
+     */
+    private boolean merges(int first, int second){
+        return first == second && (first != this.maxTile || first == 0);
+    }
+
+    /**
+     * @brief Determining whether a pair of neighbouring cells can make a move legal.
+     * @param first - the number of a cell
+     * @param second - the number of its neighbour
+     * @return Return false for two largest tiles, which neither slide nor merge, otherwise true.
+     */
+    private boolean canMeet(int first, int second){
+        return first != second || this.merges(first, second);
+    }
+
+    /**
+     * @brief The index of a cell in cells.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return The index (columns * x + y).
+     */
+    private int index(int x, int y){
+        if (x < 0 || y < 0 || x > this.rows - 1 || y > this.columns - 1) {
+            throw new IndexOutOfBoundsException();
+        }
+        return this.columns * x + y;
+    }
+
+    /**
+     * @brief Counting the empty cells and the equal pairs again after the cells slid in place.
+     */
+    private void recount(){
+        int[] cells = this.cells;
+        long empty = 0;
+        int horizontal = 0;
+        int vertical = 0;
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] == 0) {
+                empty |= 1L << i;
+            }
+            if (i % this.columns < this.columns - 1 && this.merges(cells[i], cells[i + 1])) {
+                horizontal++;
+            }
+            if (i + this.columns < cells.length && this.merges(cells[i], cells[i + this.columns])) {
+                vertical++;
+            }
+        }
+        this.emptyMask = empty;
+        this.horizontalPairs = horizontal;
+        this.verticalPairs = vertical;
+    }
+
+    /**
+     * @brief Merge a row or a column in place in cells and update marks; the caller recounts the
+     * empty cells and pairs. Lines of four tiles up to 16384 go through the precomputed MoveTableT
+     * tables, every other line through the SlideT kernel.
+     * @param index - the index of merged row or column
+     * @param isRow - true for a row, false for a column
+     * @param toStart - true to slide towards index 0 (Left/Up), false towards the last index (Right/Down)
+     */
+    private void mergeLine(int index, boolean isRow, boolean toStart){
+        int length = isRow ? this.columns : this.rows;
+        int stride = isRow ? 1 : this.columns;
+        int first = isRow ? this.columns * index : index;
+        // walk the line from the side the tiles slide towards
+        int start = toStart ? first : first + stride * (length - 1);
+        int step = toStart ? stride : -stride;
+        if (length != BitBoardT.size || ! mergeTable(start, step)) {
+            this.marks += (int) SlideT.slide(this.cells, start, step, length, this.maxTile);
+        }
+    }
+
+    /**
+     * @brief Merge a line of four tiles in place through the MoveTableT tables and update marks.
+     * @param start - the index of the cell the tiles slide towards
+     * @param step - the distance between two cells of the line, negative to walk backwards
+     * @return Return false, leaving the line unchanged, if a tile is not a power of two below 32768.
+     */
+    private boolean mergeTable(int start, int step){
+        int[] cells = this.cells;
+        int packed = 0;
+        for (int i = 0; i < BitBoardT.size; i++) {
+            int num = cells[start + step * i];
+            int e = Integer.numberOfTrailingZeros(num);
+            if (num != 0 && (num < 2 || Integer.bitCount(num) != 1 || e >= BitBoardT.MAX_EXPONENT)) {
+                return false;
+            }
+            packed |= (num == 0 ? 0 : e) << (4 * i);
+        }
+        this.marks += MoveTableT.score(packed);
+        int result = MoveTableT.moveLeft(packed);
+        for (int i = 0; i < BitBoardT.size; i++) {
+            int e = (result >>> (4 * i)) & 0xF;
+            cells[start + step * i] = e == 0 ? 0 : 1 << e;
+        }
+        return true;
+    }
+
+    /**
+     * @brief A row of the board seen as a list, for the board field.
+     */
+    private class RowView extends AbstractList<Integer> {
+        private final int offset;
+
+        /**
+         * @brief A constructor for the view of a row.
+         * @param offset - the index of the first cell of the row in cells
+         */
+        RowView(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public Integer get(int y) {
+            return GridBoardT.this.cells[this.offset + Objects.checkIndex(y, GridBoardT.this.columns)];
+        }
+
+        @Override
+        public int size() {
+            return GridBoardT.this.columns;
+        }
+    }
+
+}
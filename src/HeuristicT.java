@@ -0,0 +1,99 @@
+/**
+ * @file: HeuristicT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A precomputed heuristic evaluation of game boards.
+ */
+
+package src;
+
+/**
+ * @brief A hand-tuned evaluation of packed boards. Every row and column is scored through a
+ * table of all 65536 possible rows, built once when the class is loaded. A row scores higher
+ * with more empty cells, more neighbouring equal tiles and tiles ordered monotonically.
+ */
+public class HeuristicT {
+
+    private final static float LOST_PENALTY = 200000.0f;
+    private final static float MONOTONICITY_POWER = 4.0f;
+    private final static float MONOTONICITY_WEIGHT = 47.0f;
+    private final static float SUM_POWER = 3.5f;
+    private final static float SUM_WEIGHT = 11.0f;
+    private final static float MERGES_WEIGHT = 700.0f;
+    private final static float EMPTY_WEIGHT = 270.0f;
+
+    private final static float[] table = new float[1 << 16];
+
+    static {
+        for (int row = 0; row < table.length; row++) {
+            table[row] = scoreRow(row);
+        }
+    }
+
+    private HeuristicT() {}
+
+    /**
+     * @brief Evaluating a packed board.
+     * @param board - a packed board
+     * @return The sum of the scores of its four rows and four columns.
+     */
+    public static float evaluate(long board) {
+        long transposed = BitBoardT.transpose(board);
+        return table[(int) (board & 0xFFFF)] + table[(int) ((board >>> 16) & 0xFFFF)]
+                + table[(int) ((board >>> 32) & 0xFFFF)] + table[(int) (board >>> 48)]
+                + table[(int) (transposed & 0xFFFF)] + table[(int) ((transposed >>> 16) & 0xFFFF)]
+                + table[(int) ((transposed >>> 32) & 0xFFFF)] + table[(int) (transposed >>> 48)];
+    }
+
+    /**
+     * @brief Scoring one packed row.
+     * @param row - a packed row
+     * @return The heuristic score of the row.
+     */
+    private static float scoreRow(int row) {
+        int[] line = new int[BitBoardT.size];
+        for (int i = 0; i < line.length; i++) {
+            line[i] = (row >>> (4 * i)) & 0xF;
+        }
+
+        float sum = 0;
+        int empty = 0;
+        int merges = 0;
+        int previous = 0;
+        int counter = 0;
+        for (int e : line) {
+            sum += (float) Math.pow(e, SUM_POWER);
+            if (e == 0) {
+                empty++;
+            } else {
+                if (previous == e) {
+                    counter++;
+                } else if (counter > 0) {
+                    merges += 1 + counter;
+                    counter = 0;
+                }
+                previous = e;
+            }
+        }
+        if (counter > 0) {
+            merges += 1 + counter;
+        }
+
+        float monotonicLeft = 0;
+        float monotonicRight = 0;
+        for (int i = 1; i < line.length; i++) {
+            float a = (float) Math.pow(line[i - 1], MONOTONICITY_POWER);
+            float b = (float) Math.pow(line[i], MONOTONICITY_POWER);
+            if (line[i - 1] > line[i]) {
+                monotonicLeft += a - b;
+            } else {
+                monotonicRight += b - a;
+            }
+        }
+
+        return LOST_PENALTY + EMPTY_WEIGHT * empty + MERGES_WEIGHT * merges
+                - MONOTONICITY_WEIGHT * Math.min(monotonicLeft, monotonicRight)
+                - SUM_WEIGHT * sum;
+    }
+
+}
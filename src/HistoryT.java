@@ -0,0 +1,145 @@
+/**
+ * @file: HistoryT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An undo/redo history of game states with a bounded depth.
+ */
+
+package src;
+
+/**
+ * @brief The states of a game kept in a ring buffer of primitive arrays: 8 bytes of packed cells,
+ * the marks and the status per state. Recording, undoing and redoing are O(1) and allocate
+ * nothing; once the ring is full, recording a state forgets the oldest one.
+ */
+public class HistoryT {
+
+    // the number of moves a game can undo by default
+    public final static int DEFAULT_DEPTH = 64;
+
+    private final long[] cells;
+    private final int[] marks;
+    private final boolean[] status;
+
+    private int current;
+    private int undoable;
+    private int redoable;
+
+    /**
+     * @brief A constructor for a history of the default depth.
+     */
+    public HistoryT() {
+        this(DEFAULT_DEPTH);
+    }
+
+    /**
+     * @brief A constructor for a history.
+     * @param depth - the largest number of moves that can be undone
+     * @throws IllegalArgumentException - if the depth is negative
+     */
+    public HistoryT(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.cells = new long[depth + 1];
+        this.marks = new int[depth + 1];
+        this.status = new boolean[depth + 1];
+    }
+
+    /**
+     * @brief Forgetting all states and starting from the current state of a board.
+     * @param board - a game board
+     */
+    public void reset(PackedBoard board) {
+        this.undoable = 0;
+        this.redoable = 0;
+        this.store(board);
+    }
+
+    /**
+     * @brief Recording the state of a board after a move, which drops every state that could be redone.
+     * @param board - a game board
+     */
+    public void record(PackedBoard board) {
+        this.current = this.next(this.current);
+        this.undoable = Math.min(this.undoable + 1, this.cells.length - 1);
+        this.redoable = 0;
+        this.store(board);
+    }
+
+    /**
+     * @brief Restoring the state before the last recorded or redone one.
+     * @param board - the game board to restore
+     * @return Return true if a state was restored, otherwise false.
+     */
+    public boolean undo(PackedBoard board) {
+        if (this.undoable == 0) {
+            return false;
+        }
+        this.current = this.current == 0 ? this.cells.length - 1 : this.current - 1;
+        this.undoable--;
+        this.redoable++;
+        this.load(board);
+        return true;
+    }
+
+    /**
+     * @brief Restoring the state after the last undone one.
+     * @param board - the game board to restore
+     * @return Return true if a state was restored, otherwise false.
+     */
+    public boolean redo(PackedBoard board) {
+        if (this.redoable == 0) {
+            return false;
+        }
+        this.current = this.next(this.current);
+        this.undoable++;
+        this.redoable--;
+        this.load(board);
+        return true;
+    }
+
+    /**
+     * @brief A getter for the number of moves that can be undone.
+     * @return The number of states before the current one.
+     */
+    public int getUndoable() {
+        return this.undoable;
+    }
+
+    /**
+     * @brief A getter for the number of moves that can be redone.
+     * @return The number of states after the current one.
+     */
+    public int getRedoable() {
+        return this.redoable;
+    }
+
+    /**
+     * @brief Storing the state of a board in the current slot.
+     * @param board - a game board
+     */
+    private void store(PackedBoard board) {
+        this.cells[this.current] = BitBoardT.pack(board);
+        this.marks[this.current] = board.getMarks();
+        this.status[this.current] = board.getStatus();
+    }
+
+    /**
+     * @brief Restoring a board from the current slot.
+     * @param board - the game board to restore
+     */
+    private void load(PackedBoard board) {
+        board.restore(this.cells[this.current], this.marks[this.current], this.status[this.current]);
+    }
+
+    /**
+     * @brief The slot after a slot in the ring.
+     * @param slot - a slot
+     * @return The following slot.
+     */
+    private int next(int slot) {
+        return slot == this.cells.length - 1 ? 0 : slot + 1;
+    }
+
+}
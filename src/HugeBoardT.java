@@ -0,0 +1,515 @@
+/**
+ * @file: HugeBoardT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A game board of up to millions of cells, moved on several threads.
+ */
+
+package src;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief A stress and research board of any size, e.g. 1024x1024, where one move is a real amount
+ * of work. The cells are one flat row-major int array. Rows are independent under Left/Right,
+ * so a move splits them into fork-join tasks that each run the SlideT kernel over their share;
+ * Up/Down first transpose the board tile by tile into a second array, slide its rows the same
+ * way and transpose it back. The marks of a move, the number of empty cells and the legal moves
+ * are reductions over the same tasks.
+ */
+public class HugeBoardT implements Board {
+    private final int rows;
+    private final int columns;
+    private int[] cells;
+    // the transposed board during a vertical move
+    private int[] transposed;
+    private long empty;
+    private long marks;
+    private boolean status;
+    private final RandomGenerator random;
+    private final ForkJoinPool pool;
+
+    // the number of cells below which a task runs sequentially
+    private final static int GRAIN = 1 << 14;
+    // the side of the square blocks copied by the transpose, 64 x 64 ints fit in the L1 cache twice
+    private final static int TILE = 64;
+    // the random probes for an empty cell before falling back to a scan
+    private final static int PROBES = 64;
+
+    /**
+     * @brief A constructor for a new board moved on the common pool.
+     * @param rows - the number of rows
+     * @param columns - the number of columns
+     * @param random - the generator used for spawning tiles
+     * @throws IllegalArgumentException - if a dimension is below 1 or the board has more than 2^30 cells
+     * @return An empty game board with all cells equal to 0.
+     */
+    public HugeBoardT(int rows, int columns, RandomGenerator random) {
+        this(rows, columns, random, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @brief A constructor for a new board.
+     * @param rows - the number of rows
+     * @param columns - the number of columns
+     * @param random - the generator used for spawning tiles
+     * @param pool - the pool running the moves and the reductions
+     * @throws IllegalArgumentException - if a dimension is below 1 or the board has more than 2^30 cells
+     * @return An empty game board with all cells equal to 0.
+     */
+    public HugeBoardT(int rows, int columns, RandomGenerator random, ForkJoinPool pool) {
+        if (rows < 1 || columns < 1 || (long) rows * columns > 1 << 30) {
+            throw new IllegalArgumentException();
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new int[rows * columns];
+        this.empty = this.cells.length;
+        this.status = true;
+        this.random = random;
+        this.pool = pool;
+    }
+
+    /**
+     * @brief Generating a random starting board.
+     */
+    public void startBoard() {
+        this.addCell(2);
+        this.addCell(RandomT.tile(this.random));
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells.
+     * @param num - An int that we need to assign.
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num) {
+        this.addCell(num, this.random);
+    }
+
+    /**
+     * @brief Randomly assign a 2 or 4 among all empty cells. Random cells are probed first, which
+     * is quick unless the board is nearly full; then the k-th empty cell is searched for.
+     * @param num - An int that we need to assign.
+     * @param random - the generator choosing the empty cell
+     * @throws RuntimeException - if the game is over.
+     */
+    public void addCell(int num, RandomGenerator random) {
+        if (this.empty == 0) {
+            throw new RuntimeException();
+        }
+        int[] cells = this.cells;
+        for (int i = 0; i < PROBES; i++) {
+            int cell = random.nextInt(cells.length);
+            if (cells[cell] == 0) {
+                cells[cell] = num;
+                this.empty--;
+                return;
+            }
+        }
+        long k = random.nextLong(this.empty);
+        for (int cell = 0; ; cell++) {
+            if (cells[cell] == 0 && k-- == 0) {
+                cells[cell] = num;
+                this.empty--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @brief A getter for the number of rows of the board.
+     * @return The number of rows.
+     */
+    public int getRows(){
+        return this.rows;
+    }
+
+    /**
+     * @brief A getter for the number of columns of the board.
+     * @return The number of columns.
+     */
+    public int getColumns(){
+        return this.columns;
+    }
+
+    /**
+     * @brief A getter for the random generator owned by the board.
+     * @return The generator used for spawning tiles.
+     */
+    public RandomGenerator getRandom(){
+        return this.random;
+    }
+
+    /**
+     * @brief A getter for the status of the game.
+     * @return The status of the game where false for game over and true for game on.
+     */
+    public boolean getStatus(){
+        return this.status;
+    }
+
+    /**
+     * @brief A getter for the current marks of the game.
+     * @return The current marks of the game, capped at Integer.MAX_VALUE.
+     */
+    public int getMarks(){
+        return (int) Math.min(this.marks, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @brief A getter for the current marks of the game, which outgrow an int on huge boards.
+     * @return The current marks of the game.
+     */
+    public long getLongMarks(){
+        return this.marks;
+    }
+
+    /**
+     * @brief A getter for the number of empty cells.
+     * @return The number of 0 cells.
+     */
+    public long getEmpty(){
+        return this.empty;
+    }
+
+    /**
+     * @brief A getter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return The tile value, 0 for an empty cell.
+     */
+    public int getCell(int x, int y){
+        this.checkCell(x, y);
+        return this.cells[x * this.columns + y];
+    }
+
+    /**
+     * @brief A setter for the tile value at given x and y.
+     * @param x - row number
+     * @param y - column number
+     * @param num - the new number of the cell
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     */
+    public void setCell(int x, int y, int num){
+        this.checkCell(x, y);
+        int old = this.cells[x * this.columns + y];
+        this.cells[x * this.columns + y] = num;
+        this.empty += (num == 0 ? 1 : 0) - (old == 0 ? 1 : 0);
+    }
+
+    /**
+     * @brief A copy of every cell of the board.
+     * @return The tile values row after row, 0 for an empty cell.
+     */
+    public int[] getCells(){
+        return this.cells.clone();
+    }
+
+    /**
+     * @brief Setting every cell of the board at once, e.g. to replay from the same position.
+     * @param cells - the tile values row after row, as getCells returns them
+     * @throws IllegalArgumentException - if the number of cells does not match the board
+     */
+    public void setCells(int[] cells){
+        if (cells.length != this.cells.length) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(cells, 0, this.cells, 0, cells.length);
+        long empty = 0;
+        for (int num : cells) {
+            if (num == 0) {
+                empty++;
+            }
+        }
+        this.empty = empty;
+    }
+
+    /**
+     * @brief Determining whether a cell is empty.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     * @return Return true if the cell is 0, otherwise false.
+     */
+    public boolean isEmpty(int x, int y){
+        return this.getCell(x, y) == 0;
+    }
+
+    /**
+     * @brief Determining whether a game board is full.
+     * @return Return true if there is no 0 cell, otherwise false.
+     */
+    public boolean isFull(){
+        return this.empty == 0;
+    }
+
+    /**
+     * @brief Determining whether a game board has possible moves, if no possible moves, change game status to false.
+     * @return Return true if the game is over, otherwise false.
+     */
+    public boolean isOver(){
+        if (this.isFull() && this.legalMoves() == 0) {
+            this.status = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @brief Performing a move.
+     * @param move - a MoveT object
+     * @throws RuntimeException - if the board is full and no tiles can merge in the direction of the move
+     */
+    public void moveBoard(MoveT move) {
+        boolean vertical = move == MoveT.Up || move == MoveT.Down;
+        if (this.isFull() && (this.legalMoves() & move.bit()) == 0) {
+            throw new RuntimeException();
+        }
+        boolean toStart = move == MoveT.Up || move == MoveT.Left;
+        if (vertical) {
+            if (this.transposed == null) {
+                this.transposed = new int[this.cells.length];
+            }
+            this.pool.invoke(new TransposeTask(this.cells, this.transposed, this.rows, this.columns, 0, this.blocks(this.rows)));
+            this.slideRows(this.transposed, this.columns, this.rows, toStart);
+            this.pool.invoke(new TransposeTask(this.transposed, this.cells, this.columns, this.rows, 0, this.blocks(this.columns)));
+        } else {
+            this.slideRows(this.cells, this.rows, this.columns, toStart);
+        }
+    }
+
+    /**
+     * @brief Slide every row of a flat board on the pool and update marks and empty cells.
+     * @param cells - the cells, row after row
+     * @param rows - the number of rows
+     * @param length - the number of cells of a row
+     * @param toStart - true to slide towards index 0, false towards the last index
+     */
+    private void slideRows(int[] cells, int rows, int length, boolean toStart) {
+        SlideTask task = new SlideTask(cells, length, toStart, 0, rows);
+        this.pool.invoke(task);
+        this.marks += task.marks;
+        this.empty = task.empty;
+    }
+
+    /**
+     * @brief Determining which moves change the board, without performing any of them.
+     * @return A mask with MoveT.bit() set for every legal move, 0 if the game is over.
+     */
+    public int legalMoves() {
+        return this.pool.invoke(new LegalTask(this.cells, this.rows, this.columns, 0, this.rows));
+    }
+
+    /**
+     * @brief The number of TILE x TILE blocks along a side.
+     * @param side - the number of rows or columns
+     * @return The number of blocks, the last one possibly partial.
+     */
+    private int blocks(int side) {
+        return (side + TILE - 1) / TILE;
+    }
+
+    /**
+     * @brief Check that a coordinate is located on the board.
+     * @param x - row number
+     * @param y - column number
+     * @throws IndexOutOfBoundsException - if entered coordinate is located outside of the board
+     */
+    private void checkCell(int x, int y) {
+        if (x < 0 || y < 0 || x > this.rows - 1 || y > this.columns - 1) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * @brief The number of lines of a task run sequentially.
+     * @param length - the number of cells of a line
+     * @return At least one line, and about GRAIN cells.
+     */
+    private static int grain(int length) {
+        return Math.max(1, GRAIN / length);
+    }
+
+    /**
+     * @brief Sliding a range of rows, summing the marks and the empty cells of the range.
+     */
+    private static class SlideTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] cells;
+        private final int length;
+        private final boolean toStart;
+        private final int from;
+        private final int to;
+        long marks;
+        long empty;
+
+        SlideTask(int[] cells, int length, boolean toStart, int from, int to) {
+            this.cells = cells;
+            this.length = length;
+            this.toStart = toStart;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= grain(this.length)) {
+                int[] cells = this.cells;
+                int length = this.length;
+                for (int row = this.from; row < this.to; row++) {
+                    int start = row * length;
+                    this.marks += this.toStart ? SlideT.slide(cells, start, 1, length)
+                            : SlideT.slide(cells, start + length - 1, -1, length);
+                    for (int i = start; i < start + length; i++) {
+                        if (cells[i] == 0) {
+                            this.empty++;
+                        }
+                    }
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            SlideTask first = new SlideTask(this.cells, this.length, this.toStart, this.from, middle);
+            SlideTask second = new SlideTask(this.cells, this.length, this.toStart, middle, this.to);
+            invokeAll(first, second);
+            this.marks = first.marks + second.marks;
+            this.empty = first.empty + second.empty;
+        }
+    }
+
+    /**
+     * @brief Transposing a range of rows of blocks, one TILE x TILE block at a time so that both
+     * the rows read and the rows written stay in the cache.
+     */
+    private static class TransposeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] from;
+        private final int[] to;
+        private final int rows;
+        private final int columns;
+        private final int first;
+        private final int last;
+
+        TransposeTask(int[] from, int[] to, int rows, int columns, int first, int last) {
+            this.from = from;
+            this.to = to;
+            this.rows = rows;
+            this.columns = columns;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.last - this.first <= Math.max(1, grain(this.columns) / TILE)) {
+                for (int block = this.first; block < this.last; block++) {
+                    int top = block * TILE;
+                    int bottom = Math.min(top + TILE, this.rows);
+                    for (int left = 0; left < this.columns; left += TILE) {
+                        int right = Math.min(left + TILE, this.columns);
+                        for (int i = top; i < bottom; i++) {
+                            for (int j = left; j < right; j++) {
+                                this.to[j * this.rows + i] = this.from[i * this.columns + j];
+                            }
+                        }
+                    }
+                }
+                return;
+            }
+            int middle = (this.first + this.last) >>> 1;
+            invokeAll(new TransposeTask(this.from, this.to, this.rows, this.columns, this.first, middle),
+                    new TransposeTask(this.from, this.to, this.rows, this.columns, middle, this.last));
+        }
+    }
+
+    /**
+     * @brief The legal moves given by a range of rows: their horizontal pairs, and the vertical
+     * pairs between each of them and the next row.
+     */
+    private static class LegalTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+        private final int[] cells;
+        private final int rows;
+        private final int columns;
+        private final int from;
+        private final int to;
+
+        LegalTask(int[] cells, int rows, int columns, int from, int to) {
+            this.cells = cells;
+            this.rows = rows;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.to - this.from <= grain(this.columns)) {
+                int[] cells = this.cells;
+                int columns = this.columns;
+                int legal = 0;
+                int all = MoveT.Up.bit() | MoveT.Down.bit() | MoveT.Left.bit() | MoveT.Right.bit();
+                for (int row = this.from; row < this.to && legal != all; row++) {
+                    int start = row * columns;
+                    for (int i = start; i < start + columns - 1; i++) {
+                        legal |= GridBoardT.pairMoves(cells[i], cells[i + 1], MoveT.Left, MoveT.Right);
+                    }
+                    if (row + 1 < this.rows) {
+                        for (int i = start; i < start + columns; i++) {
+                            legal |= GridBoardT.pairMoves(cells[i], cells[i + columns], MoveT.Up, MoveT.Down);
+                        }
+                    }
+                }
+                return legal;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            LegalTask first = new LegalTask(this.cells, this.rows, this.columns, this.from, middle);
+            LegalTask second = new LegalTask(this.cells, this.rows, this.columns, middle, this.to);
+            invokeAll(first, second);
+            return first.join() | second.join();
+        }
+    }
+
+    /**
+     * @brief Timing moves on a huge board from the command line. Every move starts from the same
+     * half full board of 2s and 4s, so that it slides and merges as much as the first one.
+     * @param args - optionally the side of the square board, the number of moves, then the numbers of threads
+     */
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        int moves = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int[] threads = args.length > 2 ? new int[args.length - 2] : new int[] {1, 2, 4, 8};
+        for (int i = 2; i < args.length; i++) {
+            threads[i - 2] = Integer.parseInt(args[i]);
+        }
+        HugeBoardT start = new HugeBoardT(side, side, new RandomT(1));
+        for (int i = 0; i < side * side / 2; i++) {
+            start.addCell(RandomT.tile(start.getRandom()));
+        }
+        int[] cells = start.getCells();
+        System.out.printf("%dx%d, %d cores%n", side, side, Runtime.getRuntime().availableProcessors());
+        for (int t : threads) {
+            ForkJoinPool pool = new ForkJoinPool(t);
+            HugeBoardT board = new HugeBoardT(side, side, new RandomT(1), pool);
+            long nanos = 0;
+            // the first round warms up
+            for (int round = 0; round < 2; round++) {
+                nanos = 0;
+                for (int i = 0; i < moves; i++) {
+                    board.setCells(cells);
+                    long before = System.nanoTime();
+                    board.moveBoard(MoveT.values()[i % 4]);
+                    nanos += System.nanoTime() - before;
+                }
+            }
+            System.out.printf("%d threads: %.3f ms/move%n", t, nanos / 1e6 / moves);
+            pool.shutdown();
+        }
+    }
+
+}
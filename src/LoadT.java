@@ -0,0 +1,94 @@
+/**
+ * @file: LoadT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A local load generator comparing the game servers.
+ */
+
+package src;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief Many concurrent clients, each sending one move at a time and waiting for its reply,
+ * so the recorded latencies are the round trips seen by a client.
+ */
+public class LoadT {
+    private final static byte[][] MOVES = {
+            "Left\n".getBytes(StandardCharsets.US_ASCII),
+            "Up\n".getBytes(StandardCharsets.US_ASCII),
+            "Right\n".getBytes(StandardCharsets.US_ASCII),
+            "Down\n".getBytes(StandardCharsets.US_ASCII)
+    };
+
+    /**
+     * @brief A private constructor, the generator only has static methods.
+     */
+    private LoadT() {}
+
+    /**
+     * @brief Running clients against a server on the loopback address.
+     * @param port - the port of the server
+     * @param sessions - the number of concurrent clients
+     * @param moves - the number of moves sent by every client
+     * @throws InterruptedException - if interrupted while waiting for the clients
+     * @return The round-trip latencies of all moves.
+     */
+    public static MetricsT run(int port, int sessions, int moves) throws InterruptedException {
+        MetricsT metrics = new MetricsT();
+        ExecutorService clients = ServerT.newSessionExecutor();
+        for (int i = 0; i < sessions; i++) {
+            clients.execute(() -> {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                    socket.setTcpNoDelay(true);
+                    metrics.sessionOpened();
+                    OutputStream out = socket.getOutputStream();
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    for (int j = 0; j < moves; j++) {
+                        long start = System.nanoTime();
+                        out.write(MOVES[j % MOVES.length]);
+                        out.flush();
+                        if (in.readLine() == null) {
+                            break;
+                        }
+                        metrics.recordMove(System.nanoTime() - start);
+                    }
+                    metrics.sessionClosed();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.HOURS);
+        return metrics;
+    }
+
+    /**
+     * @brief Loading both servers in turn from the command line.
+     * @param args - optionally the number of sessions and of moves per session
+     * @throws Exception - if a server cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int moves = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        try (ServerT server = new ServerT(0)) {
+            long start = System.nanoTime();
+            MetricsT metrics = run(server.getPort(), sessions, moves);
+            System.out.printf("threads: %s moves/sec=%.0f%n", metrics.getReport(), metrics.getMoves() * 1e9 / (System.nanoTime() - start));
+        }
+        try (NioServerT server = new NioServerT(0)) {
+            long start = System.nanoTime();
+            MetricsT metrics = run(server.getPort(), sessions, moves);
+            System.out.printf("selector: %s moves/sec=%.0f%n", metrics.getReport(), metrics.getMoves() * 1e9 / (System.nanoTime() - start));
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/**
+ * @file: LockFreeTranspositionT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A fixed-size cache of evaluated board states shared by several search threads without locks.
+ */
+
+package src;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @brief An open-addressed cache of searched boards in two primitive arrays, shared by any number
+ * of threads without locks. Its memory is fixed by the capacity, 16 bytes per entry.
+ * A board hashes to a bucket of four neighbouring slots. Each slot holds a data word and its
+ * key, stored XORed with the data word. Both words are written and read on their own, so two
+ * threads storing the same slot at once can mix them. A reader then gets a key that matches no
+ * board and treats the slot as a miss (the lockless hashing of Hyatt and Mann).
+ * The data word packs the value, the depth and the generation of the search that stored it.
+ * A new entry takes an empty slot first, then an entry from an older search, then the shallowest
+ * entry, and it is dropped rather than replace a deeper entry of the current search.
+ */
+public class LockFreeTranspositionT implements TranspositionT {
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private volatile int generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    // the slots probed for a board, a bucket never straddles two cache lines
+    private final static int BUCKET = 4;
+    private final static VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * @brief A constructor for an empty table.
+     * @param bits - the log2 of the number of entries, at least 2
+     * @throws IllegalArgumentException - if bits is not between 2 and 30
+     */
+    public LockFreeTranspositionT(int bits) {
+        if (bits < 2 || bits > 30) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = 1 << bits;
+        this.keys = new long[capacity];
+        this.data = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @brief Looking up a searched board.
+     * @param board - a packed board
+     * @param depth - the remaining search depth that is needed
+     * @return The cached value if it was searched at least as deep, otherwise NaN.
+     */
+    public float get(long board, int depth) {
+        int bucket = TranspositionTableT.slot(board, this.mask) & -BUCKET;
+        for (int slot = bucket; slot < bucket + BUCKET; slot++) {
+            long data = (long) SLOTS.getOpaque(this.data, slot);
+            if (data != 0 && ((long) SLOTS.getOpaque(this.keys, slot) ^ data) == board) {
+                if (depth(data) >= depth) {
+                    this.hits.increment();
+                    return value(data);
+                }
+                break;
+            }
+        }
+        this.misses.increment();
+        return Float.NaN;
+    }
+
+    /**
+     * @brief Storing the value of a searched board, keeping the deeper one if it is already stored.
+     * @param board - a packed board
+     * @param depth - the remaining search depth of the value
+     * @param value - the searched value
+     */
+    public void put(long board, int depth, float value) {
+        int generation = this.generation;
+        long entry = pack(value, depth, generation);
+        int bucket = TranspositionTableT.slot(board, this.mask) & -BUCKET;
+        int victim = -1;
+        int victimScore = Integer.MAX_VALUE;
+        for (int slot = bucket; slot < bucket + BUCKET; slot++) {
+            long data = (long) SLOTS.getOpaque(this.data, slot);
+            if (data == 0) {
+                if (victimScore > Integer.MIN_VALUE) {
+                    victim = slot;
+                    victimScore = Integer.MIN_VALUE;
+                }
+                continue;
+            }
+            if (((long) SLOTS.getOpaque(this.keys, slot) ^ data) == board) {
+                if (depth(data) <= depth || generation(data) != generation) {
+                    store(slot, board, entry);
+                }
+                return;
+            }
+            // entries of older searches go first, then the shallowest
+            int score = generation(data) == generation ? depth(data) : -1;
+            if (score < victimScore) {
+                victim = slot;
+                victimScore = score;
+            }
+        }
+        if (victimScore > depth) {
+            return;
+        }
+        if (victimScore != Integer.MIN_VALUE) {
+            this.collisions.increment();
+        }
+        this.store(victim, board, entry);
+    }
+
+    /**
+     * @brief Writing an entry to a slot, the data word first.
+     * @param slot - the index of the slot
+     * @param board - a packed board
+     * @param entry - the packed value, depth and generation
+     */
+    private void store(int slot, long board, long entry) {
+        SLOTS.setOpaque(this.data, slot, entry);
+        SLOTS.setOpaque(this.keys, slot, board ^ entry);
+    }
+
+    /**
+     * @brief Starting a new search: the entries stored so far stay readable, but they are the
+     * first to be replaced.
+     */
+    public void nextGeneration() {
+        this.generation = (this.generation + 1) & 0xFFFF;
+    }
+
+    /**
+     * @brief Removing every entry. Not safe while other threads use the table.
+     */
+    public void clear() {
+        for (int slot = 0; slot < this.data.length; slot++) {
+            this.data[slot] = 0;
+            this.keys[slot] = 0;
+        }
+    }
+
+    /**
+     * @brief A getter for the number of lookups so far.
+     * @return The number of calls to get.
+     */
+    public long getLookups() {
+        return this.hits.sum() + this.misses.sum();
+    }
+
+    /**
+     * @brief A getter for the number of successful lookups so far.
+     * @return The number of calls to get that found a value.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @brief A getter for the number of failed lookups so far.
+     * @return The number of calls to get that found no value deep enough.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @brief A getter for the number of entries of other boards replaced so far.
+     * @return The number of calls to put that evicted another board from a full bucket.
+     */
+    public long getCollisions() {
+        return this.collisions.sum();
+    }
+
+    /**
+     * @brief A getter for the number of entries the table can hold.
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.data.length;
+    }
+
+    /**
+     * @brief Pack an entry into a data word, never 0 since the depth is stored plus one.
+     * @param value - the searched value
+     * @param depth - the remaining search depth of the value
+     * @param generation - the generation of the search
+     * @return The value in the low 32 bits, the depth plus one in the next 16, and the generation in the top 16.
+     */
+    private static long pack(float value, int depth, int generation) {
+        return (Float.floatToRawIntBits(value) & 0xFFFFFFFFL) | (long) (depth + 1) << 32 | (long) generation << 48;
+    }
+
+    /**
+     * @brief The value of a data word.
+     * @param data - a data word
+     * @return The searched value.
+     */
+    private static float value(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    /**
+     * @brief The depth of a data word.
+     * @param data - a data word
+     * @return The remaining search depth of the value.
+     */
+    private static int depth(long data) {
+        return ((int) (data >>> 32) & 0xFFFF) - 1;
+    }
+
+    /**
+     * @brief The generation of a data word.
+     * @param data - a data word
+     * @return The generation of the search that stored it.
+     */
+    private static int generation(long data) {
+        return (int) (data >>> 48);
+    }
+
+}
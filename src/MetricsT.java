@@ -0,0 +1,139 @@
+/**
+ * @file: MetricsT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Session counts and move latencies of a game server.
+ */
+
+package src;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @brief Thread-safe server metrics: the number of open and total sessions, the number of
+ * moves, and a histogram of move latencies. The histogram has 8 buckets per power of two, so
+ * a percentile is accurate to within 12.5% and recording never allocates or locks.
+ */
+public class MetricsT {
+    private final static int SUB_BUCKETS = 8;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final LongAdder totalSessions = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+
+    /**
+     * @brief A constructor for empty metrics.
+     */
+    public MetricsT() {}
+
+    /**
+     * @brief Recording a newly opened session.
+     */
+    public void sessionOpened() {
+        this.sessions.incrementAndGet();
+        this.totalSessions.increment();
+    }
+
+    /**
+     * @brief Recording a closed session.
+     */
+    public void sessionClosed() {
+        this.sessions.decrementAndGet();
+    }
+
+    /**
+     * @brief Recording the latency of a move.
+     * @param nanos - the time taken by the move in nanoseconds
+     */
+    public void recordMove(long nanos) {
+        this.moves.increment();
+        this.buckets.incrementAndGet(bucket(Math.max(1, nanos)));
+    }
+
+    /**
+     * @brief A getter for the number of open sessions.
+     * @return The number of sessions open now.
+     */
+    public int getSessions() {
+        return this.sessions.get();
+    }
+
+    /**
+     * @brief A getter for the number of sessions ever opened.
+     * @return The number of sessions.
+     */
+    public long getTotalSessions() {
+        return this.totalSessions.sum();
+    }
+
+    /**
+     * @brief A getter for the number of moves.
+     * @return The number of recorded moves.
+     */
+    public long getMoves() {
+        return this.moves.sum();
+    }
+
+    /**
+     * @brief A percentile of the move latencies.
+     * @param p - the percentile between 0 and 1
+     * @return The upper bound of the bucket holding the percentile in nanoseconds, 0 without moves.
+     */
+    public long getLatency(double p) {
+        long total = 0;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            total += this.buckets.get(i);
+        }
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < this.buckets.length(); i++) {
+            seen += this.buckets.get(i);
+            if (seen >= rank && seen > 0) {
+                return upperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @brief A one-line summary of the metrics.
+     * @return The sessions, moves and p50/p99 latencies in microseconds.
+     */
+    public String getReport() {
+        return String.format("sessions=%d total=%d moves=%d p50_us=%.1f p99_us=%.1f",
+                this.getSessions(), this.getTotalSessions(), this.getMoves(),
+                this.getLatency(0.5) / 1e3, this.getLatency(0.99) / 1e3);
+    }
+
+    /**
+     * @brief The bucket of a latency.
+     * @param nanos - a positive latency
+     * @return The power of two of the latency followed by its next 3 bits.
+     */
+    private static int bucket(long nanos) {
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent < 3) {
+            return (int) nanos;
+        }
+        int sub = (int) (nanos >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @brief The largest latency falling into a bucket.
+     * @param bucket - a bucket index
+     * @return The upper bound in nanoseconds.
+     */
+    private static long upperBound(int bucket) {
+        int exponent = bucket / SUB_BUCKETS;
+        if (exponent < 3) {
+            return bucket;
+        }
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 3)) - 1;
+    }
+
+}
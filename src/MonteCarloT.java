@@ -0,0 +1,152 @@
+/**
+ * @file: MonteCarloT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An automated player choosing moves by random playouts.
+ */
+
+package src;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief A Monte Carlo player. For every legal move it plays random games to the end from the
+ * board after the move and chooses the move with the best mean final marks. Playouts run on
+ * packed boards in rounds of BATCH per move, either a fixed number of them or until a time
+ * budget is spent, and allocate nothing.
+ */
+public class MonteCarloT implements PolicyT {
+
+    // playouts per move between two checks of the time budget
+    public final static int BATCH = 64;
+
+    private final int rollouts;
+    private final long budgetNanos;
+    private final RandomGenerator random;
+    private final MoveSetT root = new MoveSetT();
+    private final MoveSetT step = new MoveSetT();
+    private final long[] totals = new long[4];
+    private final int[] counts = new int[4];
+
+    private long playouts;
+    private long nanos;
+
+    /**
+     * @brief A constructor for a player running 256 playouts per legal move.
+     */
+    public MonteCarloT() {
+        this(256, 0, new RandomT());
+    }
+
+    /**
+     * @brief A constructor for a player.
+     * @param rollouts - the playouts per legal move, used when there is no time budget
+     * @param budgetNanos - the time spent on each decision, 0 to run a fixed number of playouts instead
+     * @param random - the generator of the random spawns and moves
+     */
+    public MonteCarloT(int rollouts, long budgetNanos, RandomGenerator random) {
+        this.rollouts = rollouts;
+        this.budgetNanos = budgetNanos;
+        this.random = random;
+    }
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return The move with the best mean final marks, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        return this.bestMove(BitBoardT.pack(board));
+    }
+
+    /**
+     * @brief Choosing the next move on a packed board.
+     * @param board - a packed board
+     * @return The move with the best mean final marks, or null if there is no legal move.
+     */
+    public MoveT bestMove(long board) {
+        long start = System.nanoTime();
+        MoveSetT moves = this.root.expand(board);
+        if (moves.legal == 0) {
+            return null;
+        }
+        for (int i = 0; i < this.totals.length; i++) {
+            this.totals[i] = 0;
+            this.counts[i] = 0;
+        }
+        boolean done = false;
+        while (! done) {
+            for (int i = 0; i < moves.boards.length; i++) {
+                if ((moves.legal & (1 << i)) != 0) {
+                    for (int j = 0; j < BATCH; j++) {
+                        this.totals[i] += moves.scores[i] + this.playout(moves.boards[i]);
+                    }
+                    this.counts[i] += BATCH;
+                    this.playouts += BATCH;
+                }
+            }
+            int first = Integer.numberOfTrailingZeros(moves.legal);
+            if (this.budgetNanos > 0) {
+                done = System.nanoTime() - start >= this.budgetNanos;
+            } else {
+                done = this.counts[first] >= this.rollouts;
+            }
+        }
+        MoveT best = null;
+        double bestMean = Double.NEGATIVE_INFINITY;
+        for (MoveT move : MoveT.values()) {
+            int i = move.ordinal();
+            if (moves.isLegal(move) && (double) this.totals[i] / this.counts[i] > bestMean) {
+                bestMean = (double) this.totals[i] / this.counts[i];
+                best = move;
+            }
+        }
+        this.nanos += System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * @brief Playing random spawns and random legal moves until the game is over.
+     * @param board - a packed board right after a move
+     * @return The marks gained until the game is over.
+     */
+    public int playout(long board) {
+        int marks = 0;
+        while (true) {
+            int cell = BitBoardT.randomCell(BitBoardT.emptyMask(board), this.random);
+            board |= (long) BitBoardT.exponent(RandomT.tile(this.random)) << (4 * cell);
+            MoveSetT moves = this.step.expand(board);
+            if (moves.legal == 0) {
+                return marks;
+            }
+            int move = BitBoardT.randomCell(moves.legal, this.random);
+            marks += moves.scores[move];
+            board = moves.boards[move];
+        }
+    }
+
+    /**
+     * @brief A getter for the number of playouts so far.
+     * @return The number of playouts.
+     */
+    public long getPlayouts() {
+        return this.playouts;
+    }
+
+    /**
+     * @brief The playout speed so far.
+     * @return The number of playouts per second.
+     */
+    public double getPlayoutsPerSecond() {
+        return this.nanos == 0 ? 0 : this.playouts * 1e9 / this.nanos;
+    }
+
+    /**
+     * @brief A one-line summary of the playout statistics.
+     * @return The playouts and playouts per second.
+     */
+    public String getReport() {
+        return String.format("playouts: %d, playouts/sec: %.0f", this.playouts, this.getPlayoutsPerSecond());
+    }
+
+}
@@ -0,0 +1,102 @@
+/**
+ * @file: MoveSetT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The outcomes of all four moves on a packed board.
+ */
+
+package src;
+
+/**
+ * @brief A reusable holder for the resulting boards, the marks gained and the legal-move mask
+ * of all four moves on a packed board. A move is legal when it changes the board.
+ * Filling it allocates nothing, so one instance can be reused for every node of a search.
+ */
+public class MoveSetT {
+    public int legal;
+    public final long[] boards = new long[4];
+    public final int[] scores = new int[4];
+
+    /**
+     * @brief A constructor for an empty set of outcomes.
+     */
+    public MoveSetT() {}
+
+    /**
+     * @brief Computing the outcomes of all four moves in one pass over the rows and columns.
+     * @param board - a packed board
+     * @return This object, holding the outcomes for the given board.
+     */
+    public MoveSetT expand(long board) {
+        long transposed = BitBoardT.transpose(board);
+        long left = 0L;
+        long right = 0L;
+        long up = 0L;
+        long down = 0L;
+        int horizontal = 0;
+        int vertical = 0;
+        for (int i = 0; i < BitBoardT.size; i++) {
+            int shift = 16 * i;
+            int row = (int) ((board >>> shift) & 0xFFFF);
+            int column = (int) ((transposed >>> shift) & 0xFFFF);
+            left |= (long) MoveTableT.moveLeft(row) << shift;
+            right |= (long) MoveTableT.moveRight(row) << shift;
+            up |= (long) MoveTableT.moveLeft(column) << shift;
+            down |= (long) MoveTableT.moveRight(column) << shift;
+            horizontal += MoveTableT.score(row);
+            vertical += MoveTableT.score(column);
+        }
+        this.set(MoveT.Left, board, left, horizontal);
+        this.set(MoveT.Right, board, right, horizontal);
+        this.set(MoveT.Up, transposed, up, vertical);
+        this.set(MoveT.Down, transposed, down, vertical);
+        return this;
+    }
+
+    /**
+     * @brief Determining whether a move changes the board.
+     * @param move - a MoveT object
+     * @return Return true if the move is legal, otherwise false.
+     */
+    public boolean isLegal(MoveT move) {
+        return (this.legal & move.bit()) != 0;
+    }
+
+    /**
+     * @brief A getter for the board after a move.
+     * @param move - a MoveT object
+     * @return The packed board after the move, the original board if the move is not legal.
+     */
+    public long getBoard(MoveT move) {
+        return this.boards[move.ordinal()];
+    }
+
+    /**
+     * @brief A getter for the marks gained by a move.
+     * @param move - a MoveT object
+     * @return The sum of the merged tiles.
+     */
+    public int getScore(MoveT move) {
+        return this.scores[move.ordinal()];
+    }
+
+    /**
+     * @brief Storing the outcome of one move.
+     * @param move - a MoveT object
+     * @param before - the board (transposed for vertical moves) before the move
+     * @param after - the board (transposed for vertical moves) after the move
+     * @param score - the marks gained by the move
+     */
+    private void set(MoveT move, long before, long after, int score) {
+        int i = move.ordinal();
+        boolean vertical = move == MoveT.Up || move == MoveT.Down;
+        this.boards[i] = vertical ? BitBoardT.transpose(after) : after;
+        this.scores[i] = score;
+        if (after != before) {
+            this.legal |= move.bit();
+        } else {
+            this.legal &= ~move.bit();
+        }
+    }
+
+}
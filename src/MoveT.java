@@ -12,5 +12,50 @@ package src;
  */
 public enum MoveT{
     Left, Right, Up, Down;
-}
 
+    /**
+     * @brief The bit of the move in a legal-move mask.
+     * @return 1 shifted by the ordinal of the move.
+     */
+    public int bit() {
+        return 1 << this.ordinal();
+    }
+
+    /**
+     * @brief Converting an input string to a move.
+     * @param input - Up, Down, Left or Right
+     * @return The move, or null if the input is not a move.
+     */
+    public static MoveT parse(String input) {
+        if (input.equals("Down")){
+            return Down;
+        } else if (input.equals("Up")){
+            return Up;
+        } else if (input.equals("Left")){
+            return Left;
+        } else if (input.equals("Right")){
+            return Right;
+        }
+        return null;
+    }
+
+    /**
+     * @brief Converting the initial of a move to the move.
+     * @param letter - U, D, L or R in either case
+     * @return The move, or null if the letter is not the initial of a move.
+     */
+    public static MoveT fromLetter(char letter) {
+        switch (Character.toUpperCase(letter)) {
+            case 'U':
+                return Up;
+            case 'D':
+                return Down;
+            case 'L':
+                return Left;
+            case 'R':
+                return Right;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * @file: MoveTableT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Precomputed results of sliding every possible row.
+ */
+
+package src;
+
+/**
+ * @brief Lookup tables holding the result and the marks of sliding each of the 65536 possible
+ * 16-bit rows (four 4-bit exponents, column 0 in the lowest nibble) in both directions.
+ * The tables are built once when the class is loaded; a whole move is then four lookups,
+ * plus a transpose for the vertical moves.
+ */
+public class MoveTableT {
+
+    private final static int ROWS = 1 << 16;
+
+    private final static char[] left = new char[ROWS];
+    private final static char[] right = new char[ROWS];
+    private final static int[] score = new int[ROWS];
+
+    static {
+        int[] line = new int[BitBoardT.size];
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < BitBoardT.size; i++) {
+                line[i] = (row >>> (4 * i)) & 0xF;
+            }
+            score[row] = slide(line);
+            int result = 0;
+            for (int i = 0; i < BitBoardT.size; i++) {
+                result |= line[i] << (4 * i);
+            }
+            left[row] = (char) result;
+        }
+        // sliding right is sliding the mirrored row left and mirroring it back
+        for (int row = 0; row < ROWS; row++) {
+            right[row] = (char) reverse(left[reverse(row)]);
+        }
+    }
+
+    private MoveTableT() {}
+
+    /**
+     * @brief Slide and merge a row towards index 0.
+     * @param line - the exponents of the row, replaced by the exponents after the move
+     * @return The marks gained by the merges.
+     */
+    private static int slide(int[] line) {
+        int marks = 0;
+        int out = 0;
+        int last = 0;
+        for (int i = 0; i < line.length; i++) {
+            int e = line[i];
+            if (e == 0) {
+                continue;
+            }
+            if (e == last && e < BitBoardT.MAX_EXPONENT) {
+                line[out - 1] = e + 1;
+                marks += 1 << (e + 1);
+                last = 0;
+            } else {
+                line[out++] = e;
+                last = e;
+            }
+        }
+        for (int i = out; i < line.length; i++) {
+            line[i] = 0;
+        }
+        return marks;
+    }
+
+    /**
+     * @brief Reverse the order of the four cells in a row.
+     * @param row - a packed row
+     * @return The mirrored row.
+     */
+    private static int reverse(int row) {
+        return ((row & 0xF) << 12) | ((row & 0xF0) << 4) | ((row >>> 4) & 0xF0) | (row >>> 12);
+    }
+
+    /**
+     * @brief The row after a Left move.
+     * @param row - a packed row
+     * @return The packed row slid towards column 0.
+     */
+    public static int moveLeft(int row) {
+        return left[row];
+    }
+
+    /**
+     * @brief The row after a Right move.
+     * @param row - a packed row
+     * @return The packed row slid towards column 3.
+     */
+    public static int moveRight(int row) {
+        return right[row];
+    }
+
+    /**
+     * @brief The marks gained by sliding a row, which is the same in both directions.
+     * @param row - a packed row
+     * @return The sum of the merged tiles.
+     */
+    public static int score(int row) {
+        return score[row];
+    }
+
+    /**
+     * @brief Performing a move on a packed board.
+     * @param board - a packed board
+     * @param move - a MoveT object
+     * @return The packed board after the move.
+     */
+    public static long move(long board, MoveT move) {
+        if (move == MoveT.Left) {
+            return slideRows(board, left);
+        } else if (move == MoveT.Right) {
+            return slideRows(board, right);
+        } else if (move == MoveT.Up) {
+            return BitBoardT.transpose(slideRows(BitBoardT.transpose(board), left));
+        } else {
+            return BitBoardT.transpose(slideRows(BitBoardT.transpose(board), right));
+        }
+    }
+
+    /**
+     * @brief The marks gained by a move on a packed board.
+     * @param board - a packed board
+     * @param move - a MoveT object
+     * @return The sum of the merged tiles.
+     */
+    public static int score(long board, MoveT move) {
+        if (move == MoveT.Up || move == MoveT.Down) {
+            board = BitBoardT.transpose(board);
+        }
+        return score[(int) (board & 0xFFFF)] + score[(int) ((board >>> 16) & 0xFFFF)]
+                + score[(int) ((board >>> 32) & 0xFFFF)] + score[(int) (board >>> 48)];
+    }
+
+    /**
+     * @brief Replace every row of a packed board through a table.
+     * @param board - a packed board
+     * @param table - the row table of the move
+     * @return The packed board with all rows replaced.
+     */
+    private static long slideRows(long board, char[] table) {
+        return (long) table[(int) (board & 0xFFFF)]
+                | (long) table[(int) ((board >>> 16) & 0xFFFF)] << 16
+                | (long) table[(int) ((board >>> 32) & 0xFFFF)] << 32
+                | (long) table[(int) (board >>> 48)] << 48;
+    }
+
+}
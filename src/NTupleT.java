@@ -0,0 +1,221 @@
+/**
+ * @file: NTupleT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An n-tuple network evaluating game boards.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * @brief A learned value function of packed boards. Each tuple is a list of cells; the exponents
+ * in those cells index a table of weights, and the value of a board is the sum of the looked-up
+ * weights over all tuples and all 8 symmetries of the board (rotations and reflections), so
+ * every tuple covers all the positions it can be rotated or mirrored to.
+ * As a player it chooses the move maximizing the marks gained plus the value of the board after the move.
+ * The weights of a new network live in heap arrays and can be trained; a loaded network maps its
+ * weights read-only from a TableStoreT file.
+ */
+public class NTupleT implements PolicyT {
+
+    // the first two rows and three 2x2 squares, each counted in all 8 symmetries
+    public final static int[][] DEFAULT_TUPLES = {
+            {0, 1, 2, 3},
+            {4, 5, 6, 7},
+            {0, 1, 4, 5},
+            {1, 2, 5, 6},
+            {5, 6, 9, 10}
+    };
+
+    private final int[][] tuples;
+    private final FloatBuffer[] weights;
+    private final long[] symmetries = new long[8];
+    private final MoveSetT moves = new MoveSetT();
+
+    /**
+     * @brief A constructor for an untrained network with the default tuples.
+     */
+    public NTupleT() {
+        this(DEFAULT_TUPLES);
+    }
+
+    /**
+     * @brief A constructor for an untrained network.
+     * @param tuples - the cells (4 * x + y) of every tuple
+     */
+    public NTupleT(int[][] tuples) {
+        this.tuples = tuples;
+        this.weights = new FloatBuffer[tuples.length];
+        for (int i = 0; i < tuples.length; i++) {
+            this.weights[i] = FloatBuffer.wrap(new float[1 << (4 * tuples[i].length)]);
+        }
+    }
+
+    /**
+     * @brief A constructor for a network with given weights.
+     * @param tuples - the cells (4 * x + y) of every tuple
+     * @param weights - the weight table of every tuple
+     */
+    private NTupleT(int[][] tuples, FloatBuffer[] weights) {
+        this.tuples = tuples;
+        this.weights = weights;
+    }
+
+    /**
+     * @brief A constructor for a network sharing the weights of another one, for use on another thread.
+     * @param other - the network whose weights are shared
+     */
+    public NTupleT(NTupleT other) {
+        this.tuples = other.tuples;
+        this.weights = other.weights;
+    }
+
+    /**
+     * @brief Evaluating a packed board.
+     * @param board - a packed board
+     * @return The sum of the weights of every tuple in every symmetry of the board.
+     */
+    public float evaluate(long board) {
+        fillSymmetries(board, this.symmetries);
+        float sum = 0;
+        for (long symmetry : this.symmetries) {
+            for (int t = 0; t < this.tuples.length; t++) {
+                sum += this.weights[t].get(index(symmetry, this.tuples[t]));
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @brief Adding to the weights of a packed board. Concurrent updates from several threads
+     * are not synchronized, so an occasional update may be lost.
+     * @param board - a packed board
+     * @param delta - the change of the board's value, spread over all its weights
+     * @throws java.nio.ReadOnlyBufferException - if the weights are mapped from a file
+     */
+    public void update(long board, float delta) {
+        fillSymmetries(board, this.symmetries);
+        float share = delta / (this.symmetries.length * this.tuples.length);
+        for (long symmetry : this.symmetries) {
+            for (int t = 0; t < this.tuples.length; t++) {
+                FloatBuffer table = this.weights[t];
+                int index = index(symmetry, this.tuples[t]);
+                table.put(index, table.get(index) + share);
+            }
+        }
+    }
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return The move maximizing marks plus value afterwards, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        int best = this.bestMove(this.moves.expand(BitBoardT.pack(board)));
+        return best < 0 ? null : MoveT.values()[best];
+    }
+
+    /**
+     * @brief Choosing the next move among expanded outcomes.
+     * @param moves - the outcomes of the four moves
+     * @return The ordinal of the move maximizing marks plus value afterwards, -1 if there is no legal move.
+     */
+    public int bestMove(MoveSetT moves) {
+        int best = -1;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < moves.boards.length; i++) {
+            if ((moves.legal & (1 << i)) != 0) {
+                float value = moves.scores[i] + this.evaluate(moves.boards[i]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Saving the tuples and weights as a TableStoreT file.
+     * @param path - the file to write
+     * @throws IOException - if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        TableStoreT.Writer writer = new TableStoreT.Writer();
+        int[] tuples = new int[1 + this.tuples.length * 17];
+        int next = 0;
+        tuples[next++] = this.tuples.length;
+        for (int i = 0; i < this.tuples.length; i++) {
+            tuples[next++] = this.tuples[i].length;
+            for (int cell : this.tuples[i]) {
+                tuples[next++] = cell;
+            }
+            float[] table = new float[this.weights[i].capacity()];
+            this.weights[i].get(0, table);
+            writer.add("ntuple.weights." + i, table);
+        }
+        writer.add("ntuple.tuples", Arrays.copyOf(tuples, next));
+        writer.write(path);
+    }
+
+    /**
+     * @brief Loading a network saved by save. The weights are memory-mapped read-only, so
+     * loading takes no time and processes loading the same file share its pages.
+     * @param path - the file to read
+     * @throws IOException - if the file cannot be read or is not a saved network
+     * @return The loaded network, which cannot be trained further.
+     */
+    public static NTupleT load(Path path) throws IOException {
+        TableStoreT store = TableStoreT.open(path);
+        if (! store.contains("ntuple.tuples")) {
+            throw new IOException("not an n-tuple network: " + path);
+        }
+        IntBuffer encoded = store.ints("ntuple.tuples");
+        int[][] tuples = new int[encoded.get()][];
+        FloatBuffer[] weights = new FloatBuffer[tuples.length];
+        for (int i = 0; i < tuples.length; i++) {
+            tuples[i] = new int[encoded.get()];
+            encoded.get(tuples[i]);
+            weights[i] = store.floats("ntuple.weights." + i);
+        }
+        return new NTupleT(tuples, weights);
+    }
+
+    /**
+     * @brief The index of a tuple's weight for a board.
+     * @param board - a packed board
+     * @param tuple - the cells of the tuple
+     * @return The exponents of the tuple's cells concatenated.
+     */
+    private static int index(long board, int[] tuple) {
+        int index = 0;
+        for (int i = 0; i < tuple.length; i++) {
+            index |= (int) ((board >>> (4 * tuple[i])) & 0xF) << (4 * i);
+        }
+        return index;
+    }
+
+    /**
+     * @brief Computing the 8 rotations and reflections of a board.
+     * @param board - a packed board
+     * @param out - an array of 8 receiving the symmetric boards
+     */
+    static void fillSymmetries(long board, long[] out) {
+        long transposed = BitBoardT.transpose(board);
+        out[0] = board;
+        out[1] = BitBoardT.mirror(board);
+        out[2] = BitBoardT.flip(board);
+        out[3] = BitBoardT.mirror(out[2]);
+        out[4] = transposed;
+        out[5] = BitBoardT.mirror(transposed);
+        out[6] = BitBoardT.flip(transposed);
+        out[7] = BitBoardT.mirror(out[6]);
+    }
+
+}
@@ -0,0 +1,329 @@
+/**
+ * @file: NioServerT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A TCP game server multiplexing all sessions on one selector thread.
+ */
+
+package src;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * @brief A server speaking the same protocol as ServerT from a single event loop. Commands are
+ * matched directly in the bytes of pooled direct buffers and replies are written as ASCII digits
+ * into them, so a move allocates nothing. A session only holds its board and, while it has
+ * unread or unsent bytes, two buffers borrowed from the pool.
+ */
+public class NioServerT implements Closeable {
+    private final static int BUFFER_SIZE = 4096;
+    private final static String TOO_LONG = "ERR line too long";
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final MetricsT metrics = new MetricsT();
+    private final ArrayDeque<ByteBuffer> pool = new ArrayDeque<>();
+    private final Thread loop;
+    private volatile boolean closed;
+
+    /**
+     * @brief The state of one connection.
+     */
+    private static class Session {
+        private BitBoardT board = ProtocolT.newGame();
+        private ByteBuffer in;
+        private ByteBuffer out;
+        private boolean quit;
+    }
+
+    /**
+     * @brief A constructor for a server listening on the loopback address.
+     * @param port - the port to listen on, 0 for any free port
+     * @throws IOException - if the port cannot be bound
+     */
+    public NioServerT(int port) throws IOException {
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.server.configureBlocking(false);
+        this.server.register(this.selector, SelectionKey.OP_ACCEPT);
+        this.loop = new Thread(this::run, "nio-server");
+        this.loop.start();
+    }
+
+    /**
+     * @brief A getter for the port the server listens on.
+     * @return The bound port.
+     */
+    public int getPort() {
+        return this.server.socket().getLocalPort();
+    }
+
+    /**
+     * @brief A getter for the server metrics.
+     * @return The live metrics.
+     */
+    public MetricsT getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * @brief The event loop, running until the server is closed.
+     */
+    private void run() {
+        try {
+            while (! this.closed) {
+                this.selector.select();
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            this.accept();
+                        } else {
+                            this.handle(key);
+                        }
+                    } catch (IOException e) {
+                        this.close(key);
+                    }
+                }
+            }
+            for (SelectionKey key : this.selector.keys()) {
+                if (key.attachment() != null) {
+                    this.close(key);
+                }
+            }
+            this.server.close();
+            this.selector.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @brief Accepting every pending connection.
+     * @throws IOException - if a connection cannot be configured
+     */
+    private void accept() throws IOException {
+        SocketChannel client;
+        while ((client = this.server.accept()) != null) {
+            client.configureBlocking(false);
+            client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            client.register(this.selector, SelectionKey.OP_READ, new Session());
+            this.metrics.sessionOpened();
+        }
+    }
+
+    /**
+     * @brief Reading, answering and writing whatever a ready connection allows.
+     * @param key - the key of the connection
+     * @throws IOException - if the connection fails
+     */
+    private void handle(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Session session = (Session) key.attachment();
+        if (session.in == null) {
+            session.in = this.acquire();
+            session.out = this.acquire();
+        }
+        if (key.isReadable() && channel.read(session.in) < 0) {
+            this.close(key);
+            return;
+        }
+        boolean pending;
+        do {
+            pending = this.answer(session);
+            session.out.flip();
+            channel.write(session.out);
+            session.out.compact();
+        } while (pending && session.out.position() == 0);
+
+        if (session.quit && session.out.position() == 0) {
+            this.close(key);
+        } else if (session.out.position() > 0) {
+            // stop reading until the client has taken its replies
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+            if (session.in.position() == 0) {
+                // an idle session gives its buffers back to the pool
+                this.release(session.in);
+                this.release(session.out);
+                session.in = null;
+                session.out = null;
+            }
+        }
+    }
+
+    /**
+     * @brief Answering every complete line of a session while its output buffer has room.
+     * @param session - the session
+     * @return Return true if a complete line is left unanswered for lack of room, otherwise false.
+     */
+    private boolean answer(Session session) {
+        ByteBuffer in = session.in;
+        ByteBuffer out = session.out;
+        int start = 0;
+        int end = in.position();
+        int i = 0;
+        for (; i < end && ! session.quit; i++) {
+            if (in.get(i) == '\n') {
+                if (out.remaining() < ProtocolT.MAX_REPLY) {
+                    break;
+                }
+                this.command(session, trimStart(in, start, i), trimEnd(in, start, i));
+                start = i + 1;
+            }
+        }
+        if (start == 0 && i == end && ! in.hasRemaining()) {
+            ProtocolT.putAscii(out, TOO_LONG);
+            out.put((byte) '\n');
+            session.quit = true;
+        }
+        // keep the unanswered bytes at the front of the buffer
+        in.flip().position(start);
+        in.compact();
+        return i < end && ! session.quit;
+    }
+
+    /**
+     * @brief Answering one command line.
+     * @param session - the session
+     * @param from - the index of the first byte of the command
+     * @param to - the index after the last byte of the command
+     */
+    private void command(Session session, int from, int to) {
+        ByteBuffer in = session.in;
+        ByteBuffer out = session.out;
+        MoveT move = ProtocolT.parseMove(in, from, to);
+        if (move != null) {
+            long start = System.nanoTime();
+            boolean legal = ProtocolT.play(session.board, move);
+            this.metrics.recordMove(System.nanoTime() - start);
+            ProtocolT.reply(out, legal ? ProtocolT.OK : ProtocolT.ILLEGAL, session.board);
+        } else if (ProtocolT.matches(in, from, to, "New")) {
+            session.board = ProtocolT.newGame();
+            ProtocolT.reply(out, ProtocolT.NEW, session.board);
+        } else if (ProtocolT.matches(in, from, to, "Board")) {
+            ProtocolT.reply(out, ProtocolT.BOARD, session.board);
+        } else if (ProtocolT.matches(in, from, to, "Stats")) {
+            ProtocolT.putAscii(out, ProtocolT.STATS + " " + this.metrics.getReport());
+            out.put((byte) '\n');
+        } else if (ProtocolT.matches(in, from, to, "Quit")) {
+            session.quit = true;
+        } else {
+            ProtocolT.putAscii(out, ProtocolT.UNKNOWN);
+            out.put((byte) '\n');
+        }
+    }
+
+    /**
+     * @brief Closing a connection and returning its buffers.
+     * @param key - the key of the connection
+     */
+    private void close(SelectionKey key) {
+        Session session = (Session) key.attachment();
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // nothing left to do with a broken connection
+        }
+        if (session != null) {
+            if (session.in != null) {
+                this.release(session.in);
+                this.release(session.out);
+                session.in = null;
+                session.out = null;
+            }
+            this.metrics.sessionClosed();
+        }
+    }
+
+    /**
+     * @brief Taking a buffer from the pool, allocating one when the pool is empty.
+     * @return A cleared direct buffer.
+     */
+    private ByteBuffer acquire() {
+        ByteBuffer buffer = this.pool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * @brief Returning a buffer to the pool.
+     * @param buffer - a buffer no longer used by its session
+     */
+    private void release(ByteBuffer buffer) {
+        this.pool.push(buffer.clear());
+    }
+
+    /**
+     * @brief Skipping spaces at the start of a line.
+     * @param in - the buffer holding the line
+     * @param from - the index of the first byte of the line
+     * @param to - the index after the last byte of the line
+     * @return The index of the first byte that is not white space.
+     */
+    private static int trimStart(ByteBuffer in, int from, int to) {
+        while (from < to && in.get(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * @brief Skipping spaces and a carriage return at the end of a line.
+     * @param in - the buffer holding the line
+     * @param from - the index of the first byte of the line
+     * @param to - the index after the last byte of the line
+     * @return The index after the last byte that is not white space.
+     */
+    private static int trimEnd(ByteBuffer in, int from, int to) {
+        while (to > from && in.get(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    /**
+     * @brief Closing the server and every open session.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.selector.wakeup();
+        try {
+            this.loop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @brief Running a server from the command line until it is killed.
+     * @param args - optionally the port
+     * @throws Exception - if the port cannot be bound
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : ServerT.DEFAULT_PORT;
+        NioServerT server = new NioServerT(port);
+        System.out.println("listening on port " + server.getPort());
+        while (true) {
+            Thread.sleep(10000);
+            System.out.println(server.getMetrics().getReport());
+        }
+    }
+
+}
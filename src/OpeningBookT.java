@@ -0,0 +1,179 @@
+/**
+ * @file: OpeningBookT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A player following the moves most often recorded in replay logs.
+ */
+
+package src;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @brief A book of the early positions of recorded games and the moves played from them. Every
+ * position is stored once as its canonical board (SymmetryT), with the moves counted as moves on
+ * that board, so the 8 symmetries of a position pool their counts in a single entry. When the
+ * canonical board is itself symmetric, equivalent moves on it (Left and Right on a mirror-symmetric
+ * board) are counted as the first of them in the order of MoveT. A position in the book is answered with its most played move, turned back to the board the player sees;
+ * any other position is left to a fallback player.
+ */
+public class OpeningBookT implements PolicyT {
+    // the count of each move, in the order of MoveT, from every canonical board
+    private final Map<Long, int[]> moves = new HashMap<>();
+    private final PolicyT fallback;
+
+    private long positions;
+    private long hits;
+    private long misses;
+
+    /**
+     * @brief A constructor for an empty book.
+     * @param fallback - the player choosing the moves of positions that are not in the book
+     */
+    public OpeningBookT(PolicyT fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * @brief Counting a move played from a position.
+     * @param board - a packed board
+     * @param move - the move played from it
+     */
+    public void add(long board, MoveT move) {
+        int symmetry = SymmetryT.canonicalSymmetry(board);
+        long canonical = SymmetryT.transform(board, symmetry);
+        MoveT counted = representative(canonical, SymmetryT.to(move, symmetry));
+        this.moves.computeIfAbsent(canonical, key -> new int[MoveT.values().length])[counted.ordinal()]++;
+        this.positions++;
+    }
+
+    /**
+     * @brief The first of the moves equivalent to a move under the symmetries that leave a board unchanged.
+     * @param canonical - a packed board
+     * @param move - a move on that board
+     * @return The equivalent move with the smallest ordinal, the move itself if the board has no symmetry.
+     */
+    static MoveT representative(long canonical, MoveT move) {
+        MoveT first = move;
+        for (int s = 1; s < SymmetryT.COUNT; s++) {
+            if (SymmetryT.transform(canonical, s) == canonical) {
+                MoveT image = SymmetryT.to(move, s);
+                if (image.ordinal() < first.ordinal()) {
+                    first = image;
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @brief Adding the first moves of every game of a replay log.
+     * @param log - the replay log
+     * @param plies - the number of moves read from the start of each game
+     * @throws IOException - if the log cannot be read
+     * @return The number of positions added.
+     */
+    public long addLog(Path log, int plies) throws IOException {
+        long added = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(log), 1 << 16);
+             ReplayT.Reader reader = new ReplayT.Reader(in)) {
+            while (reader.nextGame()) {
+                for (int i = 0; i < plies; i++) {
+                    long board = reader.getBoard();
+                    int code = reader.nextMove();
+                    if (code < 0) {
+                        break;
+                    }
+                    this.add(board, ReplayT.move(code));
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @brief The most played move from a position.
+     * @param board - a packed board
+     * @return The move on that board, or null if the position is not in the book.
+     */
+    public MoveT lookup(long board) {
+        int symmetry = SymmetryT.canonicalSymmetry(board);
+        int[] counts = this.moves.get(SymmetryT.transform(board, symmetry));
+        if (counts == null) {
+            return null;
+        }
+        int best = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[best]) {
+                best = i;
+            }
+        }
+        return SymmetryT.from(MoveT.values()[best], symmetry);
+    }
+
+    /**
+     * @brief Choosing the next move, from the book if possible.
+     * @param board - the current game board
+     * @return The most played legal move of the book, otherwise the move of the fallback player.
+     */
+    public MoveT chooseMove(Board board) {
+        MoveT move = this.lookup(BitBoardT.pack(board));
+        if (move != null && (board.legalMoves() & move.bit()) != 0) {
+            this.hits++;
+            return move;
+        }
+        this.misses++;
+        return this.fallback.chooseMove(board);
+    }
+
+    /**
+     * @brief A getter for the number of positions added so far.
+     * @return The number of moves counted, with repetitions.
+     */
+    public long getPositions() {
+        return this.positions;
+    }
+
+    /**
+     * @brief A getter for the number of distinct positions up to symmetry.
+     * @return The number of canonical boards in the book.
+     */
+    public int getSize() {
+        return this.moves.size();
+    }
+
+    /**
+     * @brief A one-line summary of the book.
+     * @return The positions added, the canonical boards kept and the moves answered from the book.
+     */
+    public String getReport() {
+        return String.format("positions: %d, canonical boards: %d (%.1f%%), book moves: %d of %d",
+                this.positions, this.getSize(), 100.0 * this.getSize() / Math.max(1, this.positions),
+                this.hits, this.hits + this.misses);
+    }
+
+    /**
+     * @brief Building a book from replay logs from the command line and printing its report.
+     * @param args - the number of moves read from each game, then the replay logs
+     * @throws IOException - if a log cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int plies = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        OpeningBookT book = new OpeningBookT(new GreedyPolicyT());
+        long start = System.nanoTime();
+        for (int i = 1; i < args.length; i++) {
+            book.addLog(Path.of(args[i]), plies);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(book.getReport());
+        System.out.printf("time: %.3f s%n", seconds);
+    }
+
+}
@@ -0,0 +1,23 @@
+/**
+ * @file: PackedBoard.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The interface of the game board engines whose cells fit in a packed board.
+ */
+
+package src;
+
+/**
+ * @brief The 4x4 game board engines (BoardT, BitBoardT), whose state can be saved as the packed
+ * cells BitBoardT.pack returns and restored from them.
+ */
+public interface PackedBoard extends Board {
+
+    /**
+     * @brief Restoring a previous state of the game.
+     * @param board - the packed cells, as BitBoardT.pack returns them
+     * @param marks - the marks
+     * @param status - the status of the game
+     */
+    void restore(long board, int marks, boolean status);
+}
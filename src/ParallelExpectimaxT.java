@@ -0,0 +1,220 @@
+/**
+ * @file: ParallelExpectimaxT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An expectimax player searching on several threads.
+ */
+
+package src;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @brief The ExpectimaxT search split into fork-join tasks: one task per legal root move, and
+ * below it one task per spawn (empty cell and tile value). Each spawn task runs the sequential
+ * search on its worker thread, and all threads share one TranspositionT. The values are summed
+ * in the same order as the sequential search, so both choose the same move when they see the
+ * same table entries.
+ */
+public class ParallelExpectimaxT implements PolicyT {
+    private final ForkJoinPool pool;
+    private final TranspositionT table;
+    private final int maxDepth;
+
+    // one sequential searcher per worker thread, all sharing the table
+    private final Queue<ExpectimaxT> searchers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ExpectimaxT> searcher;
+
+    private long nanos;
+
+    /**
+     * @brief A constructor for a searcher on the common pool with a shared lock-free table of 2^20 entries and a maximum depth of 3.
+     */
+    public ParallelExpectimaxT() {
+        this(ForkJoinPool.commonPool(), new LockFreeTranspositionT(20), 3);
+    }
+
+    /**
+     * @brief A constructor for a searcher.
+     * @param pool - the pool running the search tasks
+     * @param table - the cache of searched chance nodes, safe for concurrent use
+     * @param maxDepth - the largest number of spawn-and-move plies searched below a root move
+     */
+    public ParallelExpectimaxT(ForkJoinPool pool, TranspositionT table, int maxDepth) {
+        this.pool = pool;
+        this.table = table;
+        this.maxDepth = maxDepth;
+        this.searcher = ThreadLocal.withInitial(() -> {
+            ExpectimaxT result = new ExpectimaxT(this.table, this.maxDepth);
+            this.searchers.add(result);
+            return result;
+        });
+    }
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return The move with the highest expected value, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        return this.bestMove(BitBoardT.pack(board));
+    }
+
+    /**
+     * @brief Choosing the next move on a packed board.
+     * @param board - a packed board
+     * @return The move with the highest expected value, or null if there is no legal move.
+     */
+    public MoveT bestMove(long board) {
+        long start = System.nanoTime();
+        this.table.nextGeneration();
+        MoveT best = this.pool.invoke(new RootTask(board));
+        this.nanos += System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * @brief Searching the legal root moves in parallel.
+     */
+    private class RootTask extends RecursiveTask<MoveT> {
+        private static final long serialVersionUID = 1L;
+        private final long board;
+
+        RootTask(long board) {
+            this.board = board;
+        }
+
+        @Override
+        protected MoveT compute() {
+            MoveSetT moves = new MoveSetT().expand(this.board);
+            int depth = searcher.get().depthFor(this.board);
+            List<ChanceTask> tasks = new ArrayList<>();
+            for (MoveT move : MoveT.values()) {
+                if (moves.isLegal(move)) {
+                    tasks.add(new ChanceTask(move, moves.getBoard(move), depth));
+                }
+            }
+            invokeAll(tasks);
+            MoveT best = null;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            for (ChanceTask task : tasks) {
+                float value = task.join();
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = task.move;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * @brief Searching every spawn after a root move in parallel.
+     */
+    private class ChanceTask extends RecursiveTask<Float> {
+        private static final long serialVersionUID = 1L;
+        private final MoveT move;
+        private final long board;
+        private final int depth;
+
+        ChanceTask(MoveT move, long board, int depth) {
+            this.move = move;
+            this.board = board;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Float compute() {
+            // the same canonical board as the sequential search, so both sum the same spawns
+            long board = SymmetryT.canonical(this.board);
+            float cached = table.get(board, this.depth);
+            if (! Float.isNaN(cached)) {
+                return cached;
+            }
+            int empty = BitBoardT.emptyMask(board);
+            int count = Integer.bitCount(empty);
+            float two = (float) (1 - RandomT.FOUR_PROBABILITY);
+            float four = (float) RandomT.FOUR_PROBABILITY;
+            List<SpawnTask> tasks = new ArrayList<>();
+            for (int mask = empty; mask != 0; mask &= mask - 1) {
+                long tile = 1L << (4 * Integer.numberOfTrailingZeros(mask));
+                tasks.add(new SpawnTask(board | tile, this.depth, two / count));
+                tasks.add(new SpawnTask(board | (tile << 1), this.depth, four / count));
+            }
+            invokeAll(tasks);
+            float sum = 0;
+            for (int i = 0; i < tasks.size(); i += 2) {
+                sum += two * tasks.get(i).join();
+                sum += four * tasks.get(i + 1).join();
+            }
+            float value = sum / count;
+            table.put(board, this.depth, value);
+            return value;
+        }
+    }
+
+    /**
+     * @brief Searching the subtree below one spawn on the current worker thread.
+     */
+    private class SpawnTask extends RecursiveTask<Float> {
+        private static final long serialVersionUID = 1L;
+        private final long board;
+        private final int depth;
+        private final float probability;
+
+        SpawnTask(long board, int depth, float probability) {
+            this.board = board;
+            this.depth = depth;
+            this.probability = probability;
+        }
+
+        @Override
+        protected Float compute() {
+            return searcher.get().max(this.board, this.depth, this.probability);
+        }
+    }
+
+    /**
+     * @brief A getter for the number of nodes searched so far, over all threads.
+     * @return The number of nodes.
+     */
+    public long getNodes() {
+        long nodes = 0;
+        for (ExpectimaxT s : this.searchers) {
+            nodes += s.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * @brief The search speed so far, in wall-clock time.
+     * @return The number of nodes searched per second.
+     */
+    public double getNodesPerSecond() {
+        return this.nanos == 0 ? 0 : this.getNodes() * 1e9 / this.nanos;
+    }
+
+    /**
+     * @brief The share of table lookups that found a value.
+     * @return The hit rate between 0 and 1.
+     */
+    public double getHitRate() {
+        long lookups = this.table.getLookups();
+        return lookups == 0 ? 0 : (double) this.table.getHits() / lookups;
+    }
+
+    /**
+     * @brief A one-line summary of the search statistics.
+     * @return The nodes, nodes per second and table hit rate.
+     */
+    public String getReport() {
+        return String.format("nodes: %d, nodes/sec: %.0f, table hit rate: %.1f%%",
+                this.getNodes(), this.getNodesPerSecond(), 100 * this.getHitRate());
+    }
+
+}
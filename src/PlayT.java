@@ -7,6 +7,10 @@
 
 package src;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.InputMismatchException;
 import java.util.Scanner;
 
@@ -14,47 +18,93 @@ import java.util.Scanner;
  * @brief Simulate the game procedure.
  */
 public class PlayT {
+
+    // the snapshot file of Save and Load without a file name
+    public final static String DEFAULT_SAVE = "2048.save";
+
     /**
      * @brief Starting a new 2048 game.
      */
     public PlayT(){
-        BoardT gameBoard = new BoardT();
-        UI gameInterface = new UI();
+        this(new BoardT());
+    }
+
+    /**
+     * @brief Starting a new 2048 game on the given board engine.
+     * @param gameBoard - an empty game board
+     */
+    public PlayT(PackedBoard gameBoard){
+        this(gameBoard, null);
+    }
+
+    /**
+     * @brief Starting a new 2048 game played by an automated player.
+     * @param gameBoard - an empty game board
+     * @param player - the automated player, or null to read the moves from the console
+     */
+    public PlayT(PackedBoard gameBoard, PolicyT player){
+        this(gameBoard, player, new UI());
+    }
 
+    /**
+     * @brief Starting a new 2048 game shown through the given user interface.
+     * @param gameBoard - an empty game board
+     * @param player - the automated player, or null to read the moves from the console
+     * @param gameInterface - the user interface displaying the game
+     */
+    public PlayT(PackedBoard gameBoard, PolicyT player, UI gameInterface){
         // displaying the welcome message.
         gameInterface.printWelcomeMessage();
 
         // create a new game.
         gameBoard.startBoard();
         gameInterface.printBoard(gameBoard);
+        HistoryT history = new HistoryT();
+        history.reset(gameBoard);
 
         // game procedure: check if the board is full --> (not full) --> next move --> perform move --> add random tile --> check if the board is full
         while (! gameBoard.isOver()){
             // read a move
-            Scanner scan = new Scanner(System.in);
-            System.out.println("Enter a move:");
-            String move = scan.nextLine();
-
-            // perform move   invalid input error!!!
-            if (move.equals("Down")){
-                gameBoard.moveBoard(MoveT.Down);
-            } else if (move.equals("Up")){
-                gameBoard.moveBoard(MoveT.Up);
-            } else if (move.equals("Left")){
-                gameBoard.moveBoard(MoveT.Left);
-            } else if (move.equals("Right")){
-                gameBoard.moveBoard(MoveT.Right);
+            MoveT next;
+            if (player == null) {
+                String command = readCommand();
+                // undo and redo restore a recorded state instead of moving
+                if (command.equals("Undo") || command.equals("Redo")) {
+                    boolean restored = command.equals("Undo") ? history.undo(gameBoard) : history.redo(gameBoard);
+                    if (! restored) {
+                        gameInterface.printNoHistory(command);
+                    }
+                    gameInterface.printBoard(gameBoard);
+                    continue;
+                }
+                if (isFileCommand(command)) {
+                    if (fileCommand(command, gameBoard, history)) {
+                        gameInterface.printFileDone(command);
+                    } else {
+                        gameInterface.printFileFailed(command);
+                    }
+                    gameInterface.printBoard(gameBoard);
+                    continue;
+                }
+                next = MoveT.parse(command);
+                if (next == null) {
+                    throw new InputMismatchException();
+                }
             } else {
-                throw new InputMismatchException();
+                next = player.chooseMove(gameBoard);
+                gameInterface.printMove(next);
             }
 
-            // add tile
-            double random = Math.random();
-            if (random <= 0.1) {
-                gameBoard.addCell(4);
-            } else {
-                gameBoard.addCell(2);
+            // a move that changes nothing does not spawn a tile
+            if ((gameBoard.legalMoves() & next.bit()) == 0) {
+                gameInterface.printIllegalMove(next);
+                continue;
             }
+            gameBoard.moveBoard(next);
+
+            // add tile
+            gameBoard.addCell(RandomT.tile(gameBoard.getRandom()));
+            history.record(gameBoard);
 
             gameInterface.printBoard(gameBoard);
 
@@ -65,4 +115,143 @@ public class PlayT {
 
     }
 
+    /**
+     * @brief Playing a script of moves back to back, rendering the board only when the script
+     * asks for it (a Print line or the letter P) and once at the end. A line holds either one
+     * move name (Up, Down, Left, Right) or any sequence of move initials such as UDLLR.
+     * One outcome line is written per move: its number, the move, then OK and the marks,
+     * ILLEGAL for a move that changes nothing, OVER for a move after the game ended,
+     * or INVALID for a character that is not a move; Undo and Redo report OK and the marks,
+     * or NONE when there is nothing to restore, and Save and Load report OK and the marks or FAILED.
+     * @param gameBoard - an empty game board
+     * @param script - the moves
+     * @param out - the stream receiving the outcomes, written once per script line, and the boards
+     * @throws IOException - if the script cannot be read
+     * @return The number of moves performed.
+     */
+    public static int playScript(PackedBoard gameBoard, BufferedReader script, PrintStream out) throws IOException {
+        UI gameInterface = new UI(new RendererT(out, false), out);
+        StringBuilder outcomes = new StringBuilder();
+        gameBoard.startBoard();
+        HistoryT history = new HistoryT();
+        history.reset(gameBoard);
+        boolean over = gameBoard.isOver();
+        int count = 0;
+        int performed = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            line = line.trim();
+            if (line.equals("Print")) {
+                gameInterface.printBoard(gameBoard);
+                continue;
+            }
+            if (line.equals("Undo") || line.equals("Redo")) {
+                boolean restored = line.equals("Undo") ? history.undo(gameBoard) : history.redo(gameBoard);
+                over = gameBoard.isOver();
+                outcomes.append(++count).append(' ').append(line);
+                if (restored) {
+                    outcomes.append(" OK ").append(gameBoard.getMarks()).append('\n');
+                } else {
+                    outcomes.append(" NONE\n");
+                }
+                out.print(outcomes);
+                outcomes.setLength(0);
+                continue;
+            }
+            if (isFileCommand(line)) {
+                boolean done = fileCommand(line, gameBoard, history);
+                over = gameBoard.isOver();
+                outcomes.append(++count).append(' ').append(line.substring(0, 4));
+                if (done) {
+                    outcomes.append(" OK ").append(gameBoard.getMarks()).append('\n');
+                } else {
+                    outcomes.append(" FAILED\n");
+                }
+                out.print(outcomes);
+                outcomes.setLength(0);
+                continue;
+            }
+            MoveT single = MoveT.parse(line);
+            int length = single != null ? 1 : line.length();
+            for (int i = 0; i < length; i++) {
+                char letter = line.charAt(i);
+                if (single == null && Character.isWhitespace(letter)) {
+                    continue;
+                }
+                if (single == null && (letter == 'P' || letter == 'p')) {
+                    out.print(outcomes);
+                    outcomes.setLength(0);
+                    gameInterface.printBoard(gameBoard);
+                    continue;
+                }
+                MoveT next = single != null ? single : MoveT.fromLetter(letter);
+                outcomes.append(++count).append(' ');
+                if (next == null) {
+                    outcomes.append(letter).append(" INVALID\n");
+                } else if (over) {
+                    outcomes.append(next).append(" OVER\n");
+                } else if ((gameBoard.legalMoves() & next.bit()) == 0) {
+                    outcomes.append(next).append(" ILLEGAL\n");
+                } else {
+                    gameBoard.moveBoard(next);
+                    gameBoard.addCell(RandomT.tile(gameBoard.getRandom()));
+                    history.record(gameBoard);
+                    over = gameBoard.isOver();
+                    performed++;
+                    outcomes.append(next).append(" OK ").append(gameBoard.getMarks()).append('\n');
+                }
+            }
+            out.print(outcomes);
+            outcomes.setLength(0);
+        }
+
+        gameInterface.printBoard(gameBoard);
+        if (over) {
+            gameInterface.printEndingMessage(gameBoard);
+        }
+        return performed;
+    }
+
+    /**
+     * @brief Determining whether a command saves or loads the game.
+     * @param command - a trimmed command
+     * @return Return true for Save or Load, optionally followed by a file name, otherwise false.
+     */
+    private static boolean isFileCommand(String command) {
+        return command.equals("Save") || command.equals("Load")
+                || command.startsWith("Save ") || command.startsWith("Load ");
+    }
+
+    /**
+     * @brief Saving the game to, or resuming it from, a snapshot file.
+     * @param command - Save or Load, optionally followed by a file name
+     * @param gameBoard - the game board
+     * @param history - the undo history, forgotten when a game is loaded
+     * @return Return true if the file was written or read, otherwise false.
+     */
+    private static boolean fileCommand(String command, PackedBoard gameBoard, HistoryT history) {
+        Path path = Path.of(command.length() > 4 ? command.substring(4).trim() : DEFAULT_SAVE);
+        try {
+            if (command.startsWith("Save")) {
+                SnapshotT.save(path, gameBoard);
+            } else {
+                SnapshotT.load(path, gameBoard);
+                history.reset(gameBoard);
+            }
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @brief Reading a command from the console.
+     * @return The entered line: a move, Undo or Redo.
+     */
+    private static String readCommand(){
+        Scanner scan = new Scanner(System.in);
+        System.out.println("Enter a move (or Undo, Redo, Save, Load):");
+        return scan.nextLine().trim();
+    }
+
 }
@@ -0,0 +1,21 @@
+/**
+ * @file: PolicyT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The interface of automated players.
+ */
+
+package src;
+
+/**
+ * @brief An automated player choosing the next move of a game.
+ */
+public interface PolicyT {
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return A legal move, or null if there is no legal move.
+     */
+    MoveT chooseMove(Board board);
+}
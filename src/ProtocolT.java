@@ -0,0 +1,160 @@
+/**
+ * @file: ProtocolT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The line protocol spoken by the game servers.
+ */
+
+package src;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @brief The text protocol of a game session. A client sends one command per line:
+ * a move (Up, Down, Left, Right), New for a fresh game, Board for the current board,
+ * Stats for the server metrics, or Quit to end the session.
+ * Every game reply is a single line: the result (OK, ILLEGAL, NEW or BOARD), the marks,
+ * ON or OVER, then the 16 tile values row by row.
+ */
+public class ProtocolT {
+    public final static String OK = "OK";
+    public final static String ILLEGAL = "ILLEGAL";
+    public final static String NEW = "NEW";
+    public final static String BOARD = "BOARD";
+    public final static String STATS = "STATS";
+    public final static String UNKNOWN = "ERR unknown command";
+
+    // the longest reply line in bytes: a result, 10-digit marks, OVER and 16 tiles of up to 5 digits
+    public final static int MAX_REPLY = 128;
+
+    /**
+     * @brief A private constructor, the protocol only has static methods.
+     */
+    private ProtocolT() {}
+
+    /**
+     * @brief Starting the board of a new session.
+     * @return A started board with its own random generator.
+     */
+    public static BitBoardT newGame() {
+        BitBoardT board = new BitBoardT();
+        board.startBoard();
+        return board;
+    }
+
+    /**
+     * @brief Playing a move on a session's board: a legal move is performed and followed by a
+     * spawn, an illegal one changes nothing.
+     * @param board - the board of the session
+     * @param move - the requested move
+     * @return Return true if the move was legal, otherwise false.
+     */
+    public static boolean play(BitBoardT board, MoveT move) {
+        if (! board.getStatus() || (board.legalMoves() & move.bit()) == 0) {
+            return false;
+        }
+        board.moveBoard(move);
+        board.addCell(RandomT.tile(board.getRandom()));
+        board.isOver();
+        return true;
+    }
+
+    /**
+     * @brief Appending the reply line describing a board.
+     * @param out - the builder receiving the line, including its newline
+     * @param result - OK, ILLEGAL, NEW or BOARD
+     * @param board - the board of the session
+     * @return The builder.
+     */
+    public static StringBuilder reply(StringBuilder out, String result, BitBoardT board) {
+        out.append(result).append(' ').append(board.getMarks()).append(board.getStatus() ? " ON" : " OVER");
+        for (int i = 0; i < 16; i++) {
+            int e = (int) (board.board >>> (4 * i)) & 0xF;
+            out.append(' ').append(e == 0 ? 0 : 1 << e);
+        }
+        return out.append('\n');
+    }
+
+    /**
+     * @brief Determining whether a line of bytes is a given command, without decoding it.
+     * @param in - the buffer holding the line
+     * @param from - the index of the first byte of the line
+     * @param to - the index after the last byte of the line
+     * @param word - the ASCII command
+     * @return Return true if the bytes spell the command, otherwise false.
+     */
+    public static boolean matches(ByteBuffer in, int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (in.get(from + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Converting a line of bytes to a move, like MoveT.parse.
+     * @param in - the buffer holding the line
+     * @param from - the index of the first byte of the line
+     * @param to - the index after the last byte of the line
+     * @return The move, or null if the line is not a move.
+     */
+    public static MoveT parseMove(ByteBuffer in, int from, int to) {
+        for (MoveT move : MoveT.values()) {
+            if (matches(in, from, to, move.name())) {
+                return move;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @brief Writing the reply line describing a board as ASCII bytes.
+     * @param out - the buffer receiving the line, with at least MAX_REPLY bytes remaining
+     * @param result - OK, ILLEGAL, NEW or BOARD
+     * @param board - the board of the session
+     * @return The buffer.
+     */
+    public static ByteBuffer reply(ByteBuffer out, String result, BitBoardT board) {
+        putAscii(out, result);
+        out.put((byte) ' ');
+        putDecimal(out, board.getMarks());
+        putAscii(out, board.getStatus() ? " ON" : " OVER");
+        for (int i = 0; i < 16; i++) {
+            int e = (int) (board.board >>> (4 * i)) & 0xF;
+            out.put((byte) ' ');
+            putDecimal(out, e == 0 ? 0 : 1 << e);
+        }
+        return out.put((byte) '\n');
+    }
+
+    /**
+     * @brief Writing an ASCII string as bytes.
+     * @param out - the buffer receiving the bytes
+     * @param text - an ASCII string
+     */
+    public static void putAscii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            out.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * @brief Writing a non-negative int as decimal digits.
+     * @param out - the buffer receiving the digits
+     * @param value - a non-negative int
+     */
+    private static void putDecimal(ByteBuffer out, int value) {
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+}
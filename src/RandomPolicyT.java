@@ -0,0 +1,36 @@
+/**
+ * @file: RandomPolicyT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: An automated player choosing random legal moves.
+ */
+
+package src;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief A player choosing uniformly among the legal moves.
+ */
+public class RandomPolicyT implements PolicyT {
+    private final RandomGenerator random;
+
+    /**
+     * @brief A constructor for a random player.
+     * @param random - the generator choosing the moves
+     */
+    public RandomPolicyT(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * @brief Choosing the next move.
+     * @param board - the current game board
+     * @return A random legal move, or null if there is no legal move.
+     */
+    public MoveT chooseMove(Board board) {
+        int legal = board.legalMoves();
+        return legal == 0 ? null : MoveT.values()[BitBoardT.randomCell(legal, this.random)];
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * @file: RandomT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A seedable, splittable random generator owned by a single board or session.
+ */
+
+package src;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief A SplitMix64 generator. Each board owns its own instance, so games running on
+ * different threads never contend on a shared generator, and a game is replayed exactly
+ * by constructing its board with the same seed.
+ */
+public class RandomT implements RandomGenerator {
+    private final static long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // the chance that a new tile is a 4 rather than a 2
+    public final static double FOUR_PROBABILITY = 0.1;
+
+    // only used to seed generators that are created without an explicit seed
+    private final static AtomicLong seeder = new AtomicLong(mix(System.currentTimeMillis()) ^ mix(System.nanoTime()));
+
+    private long state;
+
+    /**
+     * @brief A constructor for a generator with a fresh seed.
+     */
+    public RandomT() {
+        this(mix(seeder.getAndAdd(GOLDEN_GAMMA)));
+    }
+
+    /**
+     * @brief A constructor for a generator with a given seed.
+     * @param seed - the seed, equal seeds produce equal sequences
+     */
+    public RandomT(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * @brief Generating the next 64 random bits.
+     * @return A random long.
+     */
+    @Override
+    public long nextLong() {
+        this.state += GOLDEN_GAMMA;
+        return mix(this.state);
+    }
+
+    /**
+     * @brief A getter for the state of the generator, for saving a game in progress.
+     * @return The state, a generator constructed with it as seed continues the same sequence.
+     */
+    public long getState() {
+        return this.state;
+    }
+
+    /**
+     * @brief A setter for the state of the generator, for resuming a saved game.
+     * @param state - a state returned by getState
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * @brief Splitting off an independent generator, the result only depends on the state of this one.
+     * @return A new generator for another game or worker.
+     */
+    public RandomT split() {
+        return new RandomT(this.nextLong());
+    }
+
+    /**
+     * @brief Splitting a seed into independent generators for parallel workers.
+     * @param seed - the seed of the whole run
+     * @param count - the number of generators
+     * @return The same generators for the same seed and count.
+     */
+    public static RandomT[] split(long seed, int count) {
+        RandomT root = new RandomT(seed);
+        RandomT[] result = new RandomT[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = root.split();
+        }
+        return result;
+    }
+
+    /**
+     * @brief A generator for one game of a numbered series, independent of how the series is
+     * spread over threads.
+     * @param seed - the seed of the whole series
+     * @param index - the number of the game
+     * @return The same generator for the same seed and index.
+     */
+    public static RandomT of(long seed, long index) {
+        return new RandomT(mix(seed ^ mix(index + GOLDEN_GAMMA)));
+    }
+
+    /**
+     * @brief Choosing the value of a new tile, 4 for 10% of the time and 2 otherwise.
+     * @param random - the generator making the choice
+     * @return 2 or 4.
+     */
+    public static int tile(RandomGenerator random) {
+        return random.nextDouble() <= FOUR_PROBABILITY ? 4 : 2;
+    }
+
+    /**
+     * @brief The SplitMix64 finalizer.
+     * @param z - a long
+     * @return The bits of z well mixed.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
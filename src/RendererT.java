@@ -0,0 +1,141 @@
+/**
+ * @file: RendererT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A buffered terminal renderer writing each frame at once.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * @brief Rendering game boards into one reusable buffer that is written to the terminal in a
+ * single write per frame. In ANSI mode the first frame clears the screen and later frames only
+ * move the cursor to the cells and marks that changed and redraw those, leaving the cursor on
+ * the line below the board for any other output.
+ */
+public class RendererT {
+    public final static String SEPARATOR = "-------------------------------------------------";
+
+    // every cell takes this many columns unless its tile has more than 6 digits
+    public final static int CELL_WIDTH = 7;
+
+    private final OutputStream out;
+    private final boolean ansi;
+    private final StringBuilder frame = new StringBuilder(512);
+    private byte[] bytes = new byte[512];
+
+    private int[] cells = new int[0];
+    private int marks;
+    private int rows;
+    private int columns;
+
+    /**
+     * @brief A constructor for a renderer.
+     * @param out - the terminal
+     * @param ansi - whether to redraw only the changed cells with ANSI cursor movement
+     */
+    public RendererT(OutputStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+    }
+
+    /**
+     * @brief Rendering a board as one frame.
+     * @param board - the game board
+     * @throws UncheckedIOException - if the terminal cannot be written
+     */
+    public void render(Board board) {
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        StringBuilder frame = this.frame;
+        frame.setLength(0);
+        if (! this.ansi || this.rows != rows || this.columns != columns) {
+            if (this.ansi) {
+                // clear the screen and start at its top left corner
+                frame.append("\033[H\033[2J");
+            }
+            frame.append(SEPARATOR).append('\n');
+            frame.append("Marks: ").append(board.getMarks()).append('\n');
+            frame.append(SEPARATOR).append('\n');
+            this.cells = new int[rows * columns];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    int num = board.getCell(i, j);
+                    this.cells[i * columns + j] = num;
+                    appendCell(frame, num);
+                }
+                frame.append('\n');
+            }
+            this.rows = rows;
+            this.columns = columns;
+        } else {
+            if (board.getMarks() != this.marks) {
+                moveTo(frame, 2, 1).append("Marks: ").append(board.getMarks()).append("\033[K");
+            }
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    int num = board.getCell(i, j);
+                    if (num != this.cells[i * columns + j]) {
+                        this.cells[i * columns + j] = num;
+                        appendCell(moveTo(frame, 4 + i, 1 + CELL_WIDTH * j), num);
+                    }
+                }
+            }
+            // leave the cursor below the board and clear what was printed there since the last frame
+            moveTo(frame, 4 + rows, 1).append("\033[J");
+        }
+        this.marks = board.getMarks();
+        this.write();
+    }
+
+    /**
+     * @brief Appending a cell padded to the cell width.
+     * @param frame - the builder receiving the cell
+     * @param num - the tile value of the cell
+     * @return The builder.
+     */
+    public static StringBuilder appendCell(StringBuilder frame, int num) {
+        int start = frame.length();
+        frame.append(num);
+        for (int pad = Math.max(1, CELL_WIDTH - (frame.length() - start)); pad > 0; pad--) {
+            frame.append(' ');
+        }
+        return frame;
+    }
+
+    /**
+     * @brief Appending an ANSI cursor movement.
+     * @param frame - the builder receiving the movement
+     * @param row - the terminal row, starting at 1
+     * @param column - the terminal column, starting at 1
+     * @return The builder.
+     */
+    private static StringBuilder moveTo(StringBuilder frame, int row, int column) {
+        return frame.append("\033[").append(row).append(';').append(column).append('H');
+    }
+
+    /**
+     * @brief Writing the frame with one write, the frame is plain ASCII.
+     * @throws UncheckedIOException - if the terminal cannot be written
+     */
+    private void write() {
+        int length = this.frame.length();
+        if (this.bytes.length < length) {
+            this.bytes = new byte[Math.max(length, 2 * this.bytes.length)];
+        }
+        for (int i = 0; i < length; i++) {
+            this.bytes[i] = (byte) this.frame.charAt(i);
+        }
+        try {
+            this.out.write(this.bytes, 0, length);
+            this.out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,487 @@
+/**
+ * @file: ReplayT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A compact append-only binary log of played games.
+ */
+
+package src;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * @brief The replay log format. A log starts with the magic "2RPL" and the format version,
+ * followed by any number of games. A game is its seed (8 bytes), its packed starting board
+ * (8 bytes), one byte per move, then the end marker 0x80, the final marks (4 bytes) and the
+ * final packed board (8 bytes). All numbers are big-endian.
+ *
+ * A move byte holds the direction in bits 0-1 (the MoveT ordinal), the cell (4 * x + y) of the
+ * tile spawned after the move in bits 2-5, and the spawned value in bit 6 (0 for a 2, 1 for a 4).
+ * Bit 7 is only set in the end marker, so the end of a game is found without decoding its moves.
+ */
+public class ReplayT {
+
+    // "2RPL"
+    private final static int MAGIC = 0x3252504C;
+    public final static int VERSION = 1;
+
+    public final static int END = 0x80;
+
+    /**
+     * @brief A private constructor, the format only has static methods and nested classes.
+     */
+    private ReplayT() {}
+
+    /**
+     * @brief Encoding a move and the spawn following it.
+     * @param move - the move
+     * @param cell - the cell (4 * x + y) of the spawned tile
+     * @param exponent - the exponent of the spawned tile, 1 or 2
+     * @throws IllegalArgumentException - if the cell or tile cannot be encoded
+     * @return The move byte.
+     */
+    public static int encode(MoveT move, int cell, int exponent) {
+        if (cell < 0 || cell > 15 || exponent < 1 || exponent > 2) {
+            throw new IllegalArgumentException();
+        }
+        return move.ordinal() | cell << 2 | (exponent - 1) << 6;
+    }
+
+    /**
+     * @brief The direction of a move byte.
+     * @param code - a move byte
+     * @return The move.
+     */
+    public static MoveT move(int code) {
+        return MoveT.values()[code & 3];
+    }
+
+    /**
+     * @brief The spawn cell of a move byte.
+     * @param code - a move byte
+     * @return The cell (4 * x + y) of the spawned tile.
+     */
+    public static int cell(int code) {
+        return (code >>> 2) & 0xF;
+    }
+
+    /**
+     * @brief The spawned tile of a move byte.
+     * @param code - a move byte
+     * @return The exponent of the spawned tile, 1 or 2.
+     */
+    public static int exponent(int code) {
+        return ((code >>> 6) & 1) + 1;
+    }
+
+    /**
+     * @brief Writing games to a log as they are played. A board with this writer as its recorder
+     * reports each move and the spawn following it, and they are packed into one byte.
+     */
+    public static class Writer implements Closeable {
+        private final DataOutputStream out;
+        private MoveT pending;
+        private boolean playing;
+        private long moves;
+
+        /**
+         * @brief A constructor for a writer starting a new log.
+         * @param out - the stream of the log
+         * @throws IOException - if the header cannot be written
+         */
+        public Writer(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(VERSION);
+        }
+
+        /**
+         * @brief Starting a game.
+         * @param seed - the seed the game was played with
+         * @param board - the packed starting board
+         * @throws IOException - if the log cannot be written
+         * @throws IllegalStateException - if the previous game has not ended
+         */
+        public void begin(long seed, long board) throws IOException {
+            if (this.playing) {
+                throw new IllegalStateException("the previous game has not ended");
+            }
+            this.out.writeLong(seed);
+            this.out.writeLong(board);
+            this.playing = true;
+            this.pending = null;
+        }
+
+        /**
+         * @brief Recording a move, written together with the spawn that follows it.
+         * @param move - the move performed on the board
+         */
+        public void move(MoveT move) {
+            this.pending = move;
+        }
+
+        /**
+         * @brief Recording the spawn following the last move.
+         * @param cell - the cell (4 * x + y) of the spawned tile
+         * @param exponent - the exponent of the spawned tile, 1 or 2
+         * @throws UncheckedIOException - if the log cannot be written
+         * @throws IllegalStateException - if no game is started or there was no move before the spawn
+         */
+        public void spawn(int cell, int exponent) {
+            if (! this.playing || this.pending == null) {
+                throw new IllegalStateException("a spawn must follow a move of a started game");
+            }
+            try {
+                this.write(this.pending, cell, exponent);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.pending = null;
+        }
+
+        /**
+         * @brief Writing a move and its spawn directly.
+         * @param move - the move
+         * @param cell - the cell (4 * x + y) of the spawned tile
+         * @param exponent - the exponent of the spawned tile, 1 or 2
+         * @throws IOException - if the log cannot be written
+         */
+        public void write(MoveT move, int cell, int exponent) throws IOException {
+            this.out.write(encode(move, cell, exponent));
+            this.moves++;
+        }
+
+        /**
+         * @brief Ending the current game.
+         * @param marks - the final marks
+         * @param board - the final packed board
+         * @throws IOException - if the log cannot be written
+         */
+        public void end(int marks, long board) throws IOException {
+            this.out.write(END);
+            this.out.writeInt(marks);
+            this.out.writeLong(board);
+            this.playing = false;
+        }
+
+        /**
+         * @brief A getter for the number of moves written.
+         * @return The number of moves.
+         */
+        public long getMoves() {
+            return this.moves;
+        }
+
+        /**
+         * @brief Flushing the buffered bytes to the log.
+         * @throws IOException - if the log cannot be written
+         */
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+
+        /**
+         * @brief Flushing and closing the log.
+         * @throws IOException - if the log cannot be written
+         */
+        @Override
+        public void close() throws IOException {
+            this.out.close();
+        }
+    }
+
+    /**
+     * @brief Reading the games of a log one move at a time. The reader re-simulates every move it
+     * reads on a packed board, so the board and marks after any move are known without storing them.
+     */
+    public static class Reader implements Closeable {
+        private final InputStream in;
+        // a buffer of our own, as BufferedInputStream synchronizes every single-byte read
+        private final byte[] buffer = new byte[1 << 16];
+        private int position;
+        private int limit;
+
+        private long seed;
+        private long start;
+        private long board;
+        private int marks;
+        private int moves;
+        private boolean ended = true;
+        private int finalMarks;
+        private long finalBoard;
+
+        /**
+         * @brief A constructor for a reader of a log.
+         * @param in - the stream of the log
+         * @throws IOException - if the stream is not a log of this version
+         */
+        public Reader(InputStream in) throws IOException {
+            this.in = in;
+            if (this.readInt() != MAGIC || this.readInt() != VERSION) {
+                throw new IOException("not a replay log of version " + VERSION);
+            }
+        }
+
+        /**
+         * @brief Moving to the start of the next game, skipping the rest of the current one.
+         * @throws IOException - if the log cannot be read or ends inside a game
+         * @return Return true if there is another game, otherwise false.
+         */
+        public boolean nextGame() throws IOException {
+            while (! this.ended) {
+                this.skip();
+            }
+            if (this.position == this.limit && ! this.fill()) {
+                return false;
+            }
+            this.seed = this.readLong();
+            this.start = this.readLong();
+            this.board = this.start;
+            this.marks = 0;
+            this.moves = 0;
+            this.ended = false;
+            return true;
+        }
+
+        /**
+         * @brief Reading and re-simulating the next move of the current game.
+         * @throws IOException - if the log cannot be read, ends inside the game or holds a byte
+         * with bit 7 set other than the end marker
+         * @return The move byte, or -1 at the end of the game.
+         */
+        public int nextMove() throws IOException {
+            if (this.ended) {
+                return -1;
+            }
+            int code = this.read();
+            if (code == END) {
+                this.finalMarks = this.readInt();
+                this.finalBoard = this.readLong();
+                this.ended = true;
+                return -1;
+            }
+            if (code > END) {
+                throw new IOException("corrupt log: byte " + code + " is neither a move nor the end marker");
+            }
+            MoveT move = move(code);
+            this.marks += MoveTableT.score(this.board, move);
+            this.board = MoveTableT.move(this.board, move) | (long) exponent(code) << (4 * cell(code));
+            this.moves++;
+            return code;
+        }
+
+        /**
+         * @brief Re-simulating the current game up to a given move, or to its end if it is shorter.
+         * @param moves - the number of moves from the start of the game
+         * @throws IOException - if the log cannot be read
+         * @throws IllegalArgumentException - if that move has already been read
+         * @return The packed board after that move.
+         */
+        public long seek(int moves) throws IOException {
+            if (moves < this.moves) {
+                throw new IllegalArgumentException("a log is only read forwards");
+            }
+            while (this.moves < moves && this.nextMove() >= 0) {
+                // re-simulated by nextMove
+            }
+            return this.board;
+        }
+
+        /**
+         * @brief Skipping the remaining moves of the current game without re-simulating them.
+         * @throws IOException - if the log cannot be read, ends inside the game or holds a corrupt byte
+         */
+        private void skip() throws IOException {
+            for (int code = this.read(); code != END; code = this.read()) {
+                // the bytes of a move never have bit 7 set
+                if (code > END) {
+                    throw new IOException("corrupt log: byte " + code + " is neither a move nor the end marker");
+                }
+            }
+            this.finalMarks = this.readInt();
+            this.finalBoard = this.readLong();
+            this.ended = true;
+        }
+
+        /**
+         * @brief Reading the next byte of a game.
+         * @throws IOException - if the log cannot be read or ends inside a game
+         * @return The byte between 0 and 255.
+         */
+        private int read() throws IOException {
+            if (this.position == this.limit && ! this.fill()) {
+                throw new EOFException("the log ends inside a game");
+            }
+            return this.buffer[this.position++] & 0xFF;
+        }
+
+        /**
+         * @brief Reading a big-endian int.
+         * @throws IOException - if the log cannot be read or ends inside a game
+         * @return The int.
+         */
+        private int readInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = value << 8 | this.read();
+            }
+            return value;
+        }
+
+        /**
+         * @brief Reading a big-endian long.
+         * @throws IOException - if the log cannot be read or ends inside a game
+         * @return The long.
+         */
+        private long readLong() throws IOException {
+            return (long) this.readInt() << 32 | (this.readInt() & 0xFFFFFFFFL);
+        }
+
+        /**
+         * @brief Refilling the buffer from the log.
+         * @throws IOException - if the log cannot be read
+         * @return Return true if bytes were read, otherwise false at the end of the log.
+         */
+        private boolean fill() throws IOException {
+            int count = this.in.read(this.buffer);
+            while (count == 0) {
+                count = this.in.read(this.buffer);
+            }
+            this.position = 0;
+            this.limit = Math.max(count, 0);
+            return count > 0;
+        }
+
+        /**
+         * @brief A getter for the seed of the current game.
+         * @return The recorded seed.
+         */
+        public long getSeed() {
+            return this.seed;
+        }
+
+        /**
+         * @brief A getter for the starting board of the current game.
+         * @return The packed starting board.
+         */
+        public long getStart() {
+            return this.start;
+        }
+
+        /**
+         * @brief A getter for the re-simulated board after the moves read so far.
+         * @return The packed board.
+         */
+        public long getBoard() {
+            return this.board;
+        }
+
+        /**
+         * @brief A getter for the re-simulated marks after the moves read so far.
+         * @return The marks.
+         */
+        public int getMarks() {
+            return this.marks;
+        }
+
+        /**
+         * @brief A getter for the number of moves of the current game read so far.
+         * @return The number of moves.
+         */
+        public int getMoves() {
+            return this.moves;
+        }
+
+        /**
+         * @brief Determining whether the current game has been read to its end.
+         * @return Return true after the end marker, otherwise false.
+         */
+        public boolean isEnded() {
+            return this.ended;
+        }
+
+        /**
+         * @brief A getter for the recorded final marks, known once the game has ended.
+         * @return The final marks.
+         */
+        public int getFinalMarks() {
+            return this.finalMarks;
+        }
+
+        /**
+         * @brief A getter for the recorded final board, known once the game has ended.
+         * @return The final packed board.
+         */
+        public long getFinalBoard() {
+            return this.finalBoard;
+        }
+
+        /**
+         * @brief Closing the log.
+         * @throws IOException - if the log cannot be closed
+         */
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+
+    /**
+     * @brief Recording a game played by a player on a board with a given seed.
+     * @param writer - the writer of the log
+     * @param player - the player choosing the moves
+     * @param seed - the seed of the board
+     * @throws IOException - if the log cannot be written
+     * @return The final board of the game.
+     */
+    public static BitBoardT record(Writer writer, PolicyT player, long seed) throws IOException {
+        BitBoardT board = new BitBoardT(seed);
+        board.startBoard();
+        writer.begin(seed, board.board);
+        board.setRecorder(writer);
+        for (MoveT move = player.chooseMove(board); move != null; move = player.chooseMove(board)) {
+            board.moveBoard(move);
+            board.addCell(RandomT.tile(board.getRandom()));
+        }
+        board.isOver();
+        board.setRecorder(null);
+        writer.end(board.getMarks(), board.board);
+        return board;
+    }
+
+    /**
+     * @brief Recording games to a log from the command line.
+     * @param args - the log file, then optionally the player (as in BatchT), the number of games and the seed
+     * @throws Exception - if the log cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Path path = Path.of(args.length > 0 ? args[0] : "games.replay");
+        String name = args.length > 1 ? args[1] : "random";
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        Function<RandomT, PolicyT> players = BatchT.players(name);
+        long start = System.nanoTime();
+        try (Writer writer = new Writer(Files.newOutputStream(path))) {
+            for (int i = 0; i < games; i++) {
+                RandomT random = RandomT.of(seed, i);
+                record(writer, players.apply(random), random.nextLong());
+            }
+            writer.flush();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("games: %d, moves: %d, bytes/move: %.3f, moves/sec: %.0f%n", games, writer.getMoves(),
+                    (double) Files.size(path) / Math.max(1, writer.getMoves()), writer.getMoves() / seconds);
+        }
+    }
+
+}
@@ -0,0 +1,213 @@
+/**
+ * @file: ServerT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A TCP game server running one thread per session.
+ */
+
+package src;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @brief A server playing one game per TCP connection with the line protocol of ProtocolT.
+ * Each session blocks on its own thread, which is a virtual thread when the runtime has them,
+ * so tens of thousands of idle sessions only cost their stacks and an 8-byte packed board.
+ */
+public class ServerT implements Closeable {
+    public final static int DEFAULT_PORT = 2048;
+
+    private final ServerSocket socket;
+    private final ExecutorService sessions;
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final MetricsT metrics = new MetricsT();
+    private final Thread acceptor;
+
+    /**
+     * @brief A constructor for a server listening on the loopback address.
+     * @param port - the port to listen on, 0 for any free port
+     * @throws IOException - if the port cannot be bound
+     */
+    public ServerT(int port) throws IOException {
+        this(port, newSessionExecutor());
+    }
+
+    /**
+     * @brief A constructor for a server running its sessions on a given executor.
+     * @param port - the port to listen on, 0 for any free port
+     * @param sessions - the executor of the sessions, shut down when the server is closed
+     * @throws IOException - if the port cannot be bound
+     */
+    ServerT(int port, ExecutorService sessions) throws IOException {
+        this.socket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+        this.sessions = sessions;
+        this.acceptor = new Thread(this::accept, "server-accept");
+        this.acceptor.start();
+    }
+
+    /**
+     * @brief A getter for the port the server listens on.
+     * @return The bound port.
+     */
+    public int getPort() {
+        return this.socket.getLocalPort();
+    }
+
+    /**
+     * @brief A getter for the server metrics.
+     * @return The live metrics.
+     */
+    public MetricsT getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * @brief Accepting connections until the server is closed. A connection whose session cannot
+     * start is closed at once; once the executor rejects sessions, the server stops listening.
+     */
+    private void accept() {
+        while (! this.socket.isClosed()) {
+            Socket client;
+            try {
+                client = this.socket.accept();
+            } catch (IOException e) {
+                // the server socket was closed
+                continue;
+            }
+            try {
+                this.sessions.execute(() -> this.serve(client));
+            } catch (RejectedExecutionException e) {
+                // the executor was shut down, no session can start any more
+                closeQuietly(client);
+                closeQuietly(this.socket);
+            } catch (RuntimeException e) {
+                System.err.println("server: could not start a session: " + e);
+                closeQuietly(client);
+            }
+        }
+    }
+
+    /**
+     * @brief Closing a socket, ignoring a failure to close it.
+     * @param socket - a client or server socket
+     */
+    private static void closeQuietly(Closeable socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+
+    /**
+     * @brief Playing a session until the client quits or disconnects.
+     * @param client - the connection of the session
+     */
+    private void serve(Socket client) {
+        this.metrics.sessionOpened();
+        this.clients.add(client);
+        try (client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new OutputStreamWriter(client.getOutputStream(), StandardCharsets.US_ASCII)) {
+            client.setTcpNoDelay(true);
+            BitBoardT board = ProtocolT.newGame();
+            StringBuilder reply = new StringBuilder(128);
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                reply.setLength(0);
+                MoveT move = MoveT.parse(line);
+                if (move != null) {
+                    long start = System.nanoTime();
+                    boolean legal = ProtocolT.play(board, move);
+                    this.metrics.recordMove(System.nanoTime() - start);
+                    ProtocolT.reply(reply, legal ? ProtocolT.OK : ProtocolT.ILLEGAL, board);
+                } else if (line.equals("New")) {
+                    board = ProtocolT.newGame();
+                    ProtocolT.reply(reply, ProtocolT.NEW, board);
+                } else if (line.equals("Board")) {
+                    ProtocolT.reply(reply, ProtocolT.BOARD, board);
+                } else if (line.equals("Stats")) {
+                    reply.append(ProtocolT.STATS).append(' ').append(this.metrics.getReport()).append('\n');
+                } else if (line.equals("Quit")) {
+                    break;
+                } else {
+                    reply.append(ProtocolT.UNKNOWN).append('\n');
+                }
+                out.append(reply).flush();
+            }
+        } catch (SocketException e) {
+            // the client went away
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            this.clients.remove(client);
+            this.metrics.sessionClosed();
+        }
+    }
+
+    /**
+     * @brief Closing the server and every open session.
+     * @throws IOException - if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+        // blocked reads only end when their sockets close
+        for (Socket client : this.clients) {
+            client.close();
+        }
+        this.sessions.shutdown();
+        try {
+            this.acceptor.join();
+            this.sessions.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @brief An executor running every session on its own virtual thread, or on a cached pool of
+     * platform threads on runtimes without virtual threads.
+     * @return The executor of the sessions.
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * @brief Running a server from the command line until it is killed.
+     * @param args - optionally the port
+     * @throws Exception - if the port cannot be bound
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ServerT server = new ServerT(port);
+        System.out.println("listening on port " + server.getPort());
+        while (true) {
+            Thread.sleep(10000);
+            System.out.println(server.getMetrics().getReport());
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * @file: SlideT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The slide-and-merge kernel shared by boards of every size.
+ */
+
+package src;
+
+/**
+ * @brief Slides and merges one line of tile values held in a primitive array, for boards of any
+ * size. A line is given by its first cell, the distance between two of its cells and its length,
+ * so rows and columns of a flat array, in either direction, go through the same loop.
+ * Each call is a single pass over the line and allocates nothing.
+ */
+public class SlideT {
+
+    private SlideT() {}
+
+    /**
+     * @brief Slide and merge a line towards its first cell, in place.
+     * @param cells - the tile values, 0 for an empty cell
+     * @param start - the index of the first cell of the line, the one the tiles slide to
+     * @param stride - the distance from one cell of the line to the next, negative to slide backwards
+     * @param length - the number of cells of the line
+     * @return The marks gained by the merges.
+     */
+    public static long slide(int[] cells, int start, int stride, int length) {
+        return slide(cells, start, stride, length, 0);
+    }
+
+    /**
+     * @brief Slide and merge a line towards its first cell, in place, with a largest tile.
+     * @param cells - the tile values, 0 for an empty cell
+     * @param start - the index of the first cell of the line, the one the tiles slide to
+     * @param stride - the distance from one cell of the line to the next, negative to slide backwards
+     * @param length - the number of cells of the line
+     * @param max - the tile that merges no further, or 0 if every pair of equal tiles merges
+     * @return The marks gained by the merges.
+     */
+    public static long slide(int[] cells, int start, int stride, int length, int max) {
+        long marks = 0;
+        int out = start;
+        // the last tile written and not merged yet, 0 when the next tile cannot merge
+        int last = 0;
+        int end = start + stride * length;
+        for (int i = start; i != end; i += stride) {
+            int num = cells[i];
+            if (num == 0) {
+                continue;
+            }
+            cells[i] = 0;
+            if (num == last && num != max) {
+                cells[out - stride] = num + num;
+                marks += num + num;
+                last = 0;
+            } else {
+                cells[out] = num;
+                out += stride;
+                last = num;
+            }
+        }
+        return marks;
+    }
+
+    /**
+     * @brief Determining whether sliding a line towards its first cell changes it.
+     * @param cells - the tile values, 0 for an empty cell
+     * @param start - the index of the first cell of the line
+     * @param stride - the distance from one cell of the line to the next
+     * @param length - the number of cells of the line
+     * @return Return true if a tile can slide into an empty cell or merge with an equal one.
+     */
+    public static boolean canSlide(int[] cells, int start, int stride, int length) {
+        boolean gap = false;
+        int last = 0;
+        int end = start + stride * length;
+        for (int i = start; i != end; i += stride) {
+            int num = cells[i];
+            if (num == 0) {
+                gap = true;
+            } else if (gap || num == last) {
+                return true;
+            } else {
+                last = num;
+            }
+        }
+        return false;
+    }
+
+}
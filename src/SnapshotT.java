@@ -0,0 +1,169 @@
+/**
+ * @file: SnapshotT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Saving and resuming games in progress with a compact binary codec.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @brief Snapshots of games in progress. A snapshot file is, little-endian, the magic "2SAV",
+ * the format version and the number of games, then for each game its packed 4-bit cells
+ * (8 bytes), marks (4 bytes), status (1 byte) and the state of its RandomT (8 bytes), so a
+ * resumed game deals the same tiles it would have dealt. Files are written to a temporary file
+ * and renamed into place, so a crash leaves either the old or the new file, never a torn one.
+ */
+public class SnapshotT {
+
+    // "2SAV"
+    private final static int MAGIC = 0x32534156;
+    public final static int VERSION = 1;
+
+    public final static int HEADER_SIZE = 12;
+    public final static int RECORD_SIZE = 8 + 4 + 1 + 8;
+
+    /**
+     * @brief A private constructor, the codec only has static methods.
+     */
+    private SnapshotT() {}
+
+    /**
+     * @brief Encoding the state of a game.
+     * @param board - a game board whose generator is a RandomT
+     * @param out - a little-endian buffer with RECORD_SIZE bytes remaining
+     * @throws IllegalArgumentException - if the board's generator has no state to save
+     */
+    public static void encode(PackedBoard board, ByteBuffer out) {
+        out.putLong(BitBoardT.pack(board));
+        out.putInt(board.getMarks());
+        out.put((byte) (board.getStatus() ? 1 : 0));
+        out.putLong(random(board).getState());
+    }
+
+    /**
+     * @brief Decoding the state of a game into a board.
+     * @param in - a little-endian buffer at the start of a record
+     * @param board - the game board to restore, whose generator is a RandomT
+     * @throws IllegalArgumentException - if the board's generator has no state to restore
+     */
+    public static void decode(ByteBuffer in, PackedBoard board) {
+        long cells = in.getLong();
+        int marks = in.getInt();
+        boolean status = in.get() != 0;
+        random(board).setState(in.getLong());
+        board.restore(cells, marks, status);
+    }
+
+    /**
+     * @brief Saving one game.
+     * @param path - the snapshot file
+     * @param board - a game board whose generator is a RandomT
+     * @throws IOException - if the file cannot be written
+     */
+    public static void save(Path path, PackedBoard board) throws IOException {
+        saveAll(path, List.of(board));
+    }
+
+    /**
+     * @brief Saving many games, such as every session of a server, in one file.
+     * @param path - the snapshot file
+     * @param boards - game boards whose generators are RandomTs
+     * @throws IOException - if the file cannot be written
+     */
+    public static void saveAll(Path path, List<? extends PackedBoard> boards) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + RECORD_SIZE * boards.size()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(boards.size());
+        for (PackedBoard board : boards) {
+            encode(board, buffer);
+        }
+        buffer.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @brief Resuming the first game of a file on a board.
+     * @param path - the snapshot file
+     * @param board - the game board to restore, whose generator is a RandomT
+     * @throws IOException - if the file cannot be read or holds no game
+     */
+    public static void load(Path path, PackedBoard board) throws IOException {
+        ByteBuffer buffer = read(path);
+        if (! buffer.hasRemaining()) {
+            throw new IOException("no game in snapshot: " + path);
+        }
+        decode(buffer, board);
+    }
+
+    /**
+     * @brief Resuming every game of a file.
+     * @param path - the snapshot file
+     * @throws IOException - if the file cannot be read
+     * @return A board for every saved game, each with its own generator.
+     */
+    public static List<BitBoardT> loadAll(Path path) throws IOException {
+        ByteBuffer buffer = read(path);
+        List<BitBoardT> boards = new ArrayList<>(buffer.remaining() / RECORD_SIZE);
+        while (buffer.hasRemaining()) {
+            BitBoardT board = new BitBoardT(new RandomT(0));
+            decode(buffer, board);
+            boards.add(board);
+        }
+        return boards;
+    }
+
+    /**
+     * @brief Reading a snapshot file and checking its header.
+     * @param path - the snapshot file
+     * @throws IOException - if the file cannot be read or is not a snapshot of this version
+     * @return A little-endian buffer positioned at the first record, limited to the records.
+     */
+    private static ByteBuffer read(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("not a snapshot of version " + VERSION + ": " + path);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || buffer.remaining() != (long) count * RECORD_SIZE) {
+            throw new IOException("truncated snapshot: " + path);
+        }
+        return buffer;
+    }
+
+    /**
+     * @brief The generator of a board as a RandomT.
+     * @param board - a game board
+     * @throws IllegalArgumentException - if the generator is not a RandomT
+     * @return The generator.
+     */
+    private static RandomT random(PackedBoard board) {
+        if (! (board.getRandom() instanceof RandomT)) {
+            throw new IllegalArgumentException("only games dealt by a RandomT can be saved");
+        }
+        return (RandomT) board.getRandom();
+    }
+
+}
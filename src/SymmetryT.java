@@ -0,0 +1,186 @@
+/**
+ * @file: SymmetryT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The 8 rotations and reflections of a packed board and of the moves on it.
+ */
+
+package src;
+
+/**
+ * @brief The dihedral symmetries of a packed board. Symmetry s transposes the board if bit 2 of
+ * s is set, then flips it top to bottom if bit 1 is set, then mirrors it left to right if bit 0
+ * is set, in the order of NTupleT.fillSymmetries. Symmetric boards play the same game up to the
+ * names of the moves, so caches and books can store the canonical board, the smallest of the 8,
+ * and map the moves back to the board the player sees.
+ */
+public class SymmetryT {
+
+    public final static int COUNT = 8;
+
+    // TO[s][m] is the move on symmetry s of a board that does what move m does on the board itself
+    private final static MoveT[][] TO = new MoveT[COUNT][];
+    private final static MoveT[][] FROM = new MoveT[COUNT][];
+
+    static {
+        MoveT[] moves = MoveT.values();
+        for (int s = 0; s < COUNT; s++) {
+            TO[s] = new MoveT[moves.length];
+            FROM[s] = new MoveT[moves.length];
+            for (MoveT move : moves) {
+                MoveT to = move;
+                if ((s & 4) != 0) {
+                    to = transpose(to);
+                }
+                if ((s & 2) != 0) {
+                    to = flip(to);
+                }
+                if ((s & 1) != 0) {
+                    to = mirror(to);
+                }
+                TO[s][move.ordinal()] = to;
+                FROM[s][to.ordinal()] = move;
+            }
+        }
+    }
+
+    private SymmetryT() {}
+
+    /**
+     * @brief Apply a symmetry to a board.
+     * @param board - a packed board
+     * @param symmetry - a symmetry between 0 and 7
+     * @return The transposed, flipped and mirrored board as the bits of the symmetry ask.
+     */
+    public static long transform(long board, int symmetry) {
+        if ((symmetry & 4) != 0) {
+            board = BitBoardT.transpose(board);
+        }
+        if ((symmetry & 2) != 0) {
+            board = BitBoardT.flip(board);
+        }
+        if ((symmetry & 1) != 0) {
+            board = BitBoardT.mirror(board);
+        }
+        return board;
+    }
+
+    /**
+     * @brief The symmetry turning a board into its canonical board.
+     * @param board - a packed board
+     * @return The symmetry giving the smallest board as an unsigned long, the first one on ties.
+     */
+    public static int canonicalSymmetry(long board) {
+        long transposed = BitBoardT.transpose(board);
+        long flipped = BitBoardT.flip(board);
+        long transposedFlipped = BitBoardT.flip(transposed);
+        int best = 0;
+        long min = board;
+        long candidate = BitBoardT.mirror(board);
+        if (Long.compareUnsigned(candidate, min) < 0) {
+            best = 1;
+            min = candidate;
+        }
+        if (Long.compareUnsigned(flipped, min) < 0) {
+            best = 2;
+            min = flipped;
+        }
+        candidate = BitBoardT.mirror(flipped);
+        if (Long.compareUnsigned(candidate, min) < 0) {
+            best = 3;
+            min = candidate;
+        }
+        if (Long.compareUnsigned(transposed, min) < 0) {
+            best = 4;
+            min = transposed;
+        }
+        candidate = BitBoardT.mirror(transposed);
+        if (Long.compareUnsigned(candidate, min) < 0) {
+            best = 5;
+            min = candidate;
+        }
+        if (Long.compareUnsigned(transposedFlipped, min) < 0) {
+            best = 6;
+            min = transposedFlipped;
+        }
+        candidate = BitBoardT.mirror(transposedFlipped);
+        if (Long.compareUnsigned(candidate, min) < 0) {
+            best = 7;
+        }
+        return best;
+    }
+
+    /**
+     * @brief The canonical board of a board, the same for all its 8 symmetries.
+     * @param board - a packed board
+     * @return The smallest of the symmetries of the board, as an unsigned long.
+     */
+    public static long canonical(long board) {
+        long transposed = BitBoardT.transpose(board);
+        long flipped = BitBoardT.flip(board);
+        long transposedFlipped = BitBoardT.flip(transposed);
+        long min = min(board, BitBoardT.mirror(board));
+        min = min(min, min(flipped, BitBoardT.mirror(flipped)));
+        min = min(min, min(transposed, BitBoardT.mirror(transposed)));
+        return min(min, min(transposedFlipped, BitBoardT.mirror(transposedFlipped)));
+    }
+
+    /**
+     * @brief The move on a symmetric board matching a move on the board itself.
+     * @param move - a move on the board
+     * @param symmetry - the symmetry applied to the board
+     * @return The move doing the same on the symmetric board.
+     */
+    public static MoveT to(MoveT move, int symmetry) {
+        return TO[symmetry][move.ordinal()];
+    }
+
+    /**
+     * @brief The move on a board matching a move on one of its symmetries, e.g. its canonical board.
+     * @param move - a move on the symmetric board
+     * @param symmetry - the symmetry applied to the board
+     * @return The move doing the same on the board itself.
+     */
+    public static MoveT from(MoveT move, int symmetry) {
+        return FROM[symmetry][move.ordinal()];
+    }
+
+    /**
+     * @brief The smaller of two boards as unsigned longs.
+     * @param a - a packed board
+     * @param b - another packed board
+     * @return The smaller board.
+     */
+    private static long min(long a, long b) {
+        return Long.compareUnsigned(a, b) <= 0 ? a : b;
+    }
+
+    /**
+     * @brief The move after mirroring the board left to right.
+     * @param move - a move
+     * @return Left and Right swapped.
+     */
+    private static MoveT mirror(MoveT move) {
+        return move == MoveT.Left ? MoveT.Right : move == MoveT.Right ? MoveT.Left : move;
+    }
+
+    /**
+     * @brief The move after flipping the board top to bottom.
+     * @param move - a move
+     * @return Up and Down swapped.
+     */
+    private static MoveT flip(MoveT move) {
+        return move == MoveT.Up ? MoveT.Down : move == MoveT.Down ? MoveT.Up : move;
+    }
+
+    /**
+     * @brief The move after transposing the board.
+     * @param move - a move
+     * @return Left and Up swapped, and Right and Down swapped.
+     */
+    private static MoveT transpose(MoveT move) {
+        return move == MoveT.Left ? MoveT.Up : move == MoveT.Up ? MoveT.Left
+                : move == MoveT.Right ? MoveT.Down : MoveT.Right;
+    }
+
+}
@@ -0,0 +1,269 @@
+/**
+ * @file: TableStoreT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A versioned binary file of named tables, memory-mapped read-only.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @brief A store of large lookup tables (n-tuple weights, heuristic tables) kept in one file and
+ * memory-mapped read-only through FileChannel.map. Opening a store only reads its header, pages
+ * are loaded on first use, and processes mapping the same file share one copy in the page cache.
+ *
+ * File layout, little-endian: the magic "2048", the format version, the number of tables, then
+ * for each table its name (2-byte length and UTF-8 bytes), type (0 float, 1 int), element count and byte offset.
+ * Table data follows the header, each table aligned to 64 bytes.
+ */
+public class TableStoreT {
+
+    // "2048"
+    private final static int MAGIC = 0x32303438;
+    public final static int VERSION = 1;
+
+    private final static byte FLOAT = 0;
+    private final static byte INT = 1;
+    private final static int ALIGNMENT = 64;
+
+    private final Map<String, ByteBuffer> tables = new HashMap<>();
+    private final Map<String, Byte> types = new HashMap<>();
+
+    /**
+     * @brief A private constructor, stores are opened with open.
+     */
+    private TableStoreT() {}
+
+    /**
+     * @brief Memory-mapping a store read-only.
+     * @param path - the store file
+     * @throws IOException - if the file cannot be read, is not a store of this version, is corrupt
+     * or has a table of 2 GB or more
+     * @return The opened store.
+     */
+    public static TableStoreT open(Path path) throws IOException {
+        TableStoreT store = new TableStoreT();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, 1 << 16));
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (size < 12 || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("not a table store of version " + VERSION + ": " + path);
+            }
+            int count = header.getInt();
+            if (count < 0) {
+                throw new IOException("corrupt table store: " + path);
+            }
+            for (int i = 0; i < count; i++) {
+                need(header, 2, path);
+                byte[] name = new byte[header.getShort() & 0xFFFF];
+                need(header, name.length + 1 + 4 + 8, path);
+                header.get(name);
+                byte type = header.get();
+                int length = header.getInt();
+                long offset = header.getLong();
+                if (length < 0 || offset < 0) {
+                    throw new IOException("corrupt table store: " + path);
+                }
+                // a table is read through one buffer, whose capacity is an int
+                if (4L * length > Integer.MAX_VALUE) {
+                    throw new IOException("table of 2 GB or more in table store: " + path);
+                }
+                if (offset + 4L * length > size) {
+                    throw new IOException("truncated table store: " + path);
+                }
+                // each table is mapped on its own, so the store as a whole may exceed 2 GB
+                ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, offset, 4L * length);
+                String key = new String(name, StandardCharsets.UTF_8);
+                store.tables.put(key, data.order(ByteOrder.LITTLE_ENDIAN));
+                store.types.put(key, type);
+            }
+        }
+        return store;
+    }
+
+    /**
+     * @brief Checking that the mapped header holds the next field of a table entry.
+     * @param header - the mapped header
+     * @param bytes - the size of the next field
+     * @param path - the store file, for the message
+     * @throws IOException - if the header ends before the field
+     */
+    private static void need(ByteBuffer header, int bytes, Path path) throws IOException {
+        if (header.remaining() < bytes) {
+            throw new IOException("truncated table store header: " + path);
+        }
+    }
+
+    /**
+     * @brief Determining whether the store has a table.
+     * @param name - the name of the table
+     * @return Return true if the table exists, otherwise false.
+     */
+    public boolean contains(String name) {
+        return this.tables.containsKey(name);
+    }
+
+    /**
+     * @brief A read-only view of a float table.
+     * @param name - the name of the table
+     * @throws IllegalArgumentException - if there is no float table of that name
+     * @return The mapped table.
+     */
+    public FloatBuffer floats(String name) {
+        return this.table(name, FLOAT).asFloatBuffer();
+    }
+
+    /**
+     * @brief A read-only view of an int table.
+     * @param name - the name of the table
+     * @throws IllegalArgumentException - if there is no int table of that name
+     * @return The mapped table.
+     */
+    public IntBuffer ints(String name) {
+        return this.table(name, INT).asIntBuffer();
+    }
+
+    /**
+     * @brief Finding a table of a given type.
+     * @param name - the name of the table
+     * @param type - the expected element type
+     * @throws IllegalArgumentException - if there is no table of that name and type
+     * @return A duplicate of the mapped bytes.
+     */
+    private ByteBuffer table(String name, byte type) {
+        ByteBuffer data = this.tables.get(name);
+        if (data == null || this.types.get(name) != type) {
+            throw new IllegalArgumentException("no such table: " + name);
+        }
+        return data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @brief Collecting tables and writing them as a store.
+     */
+    public static class Writer {
+        private final List<String> names = new ArrayList<>();
+        private final List<Object> data = new ArrayList<>();
+
+        /**
+         * @brief Adding a float table.
+         * @param name - the name of the table
+         * @param table - the values
+         * @return This writer.
+         */
+        public Writer add(String name, float[] table) {
+            this.names.add(name);
+            this.data.add(table);
+            return this;
+        }
+
+        /**
+         * @brief Adding an int table.
+         * @param name - the name of the table
+         * @param table - the values
+         * @return This writer.
+         */
+        public Writer add(String name, int[] table) {
+            this.names.add(name);
+            this.data.add(table);
+            return this;
+        }
+
+        /**
+         * @brief Writing the store to a temporary file and moving it into place, so that readers
+         * never see a partly written store.
+         * @param path - the store file
+         * @throws IOException - if the file cannot be written
+         */
+        public void write(Path path) throws IOException {
+            List<byte[]> names = new ArrayList<>();
+            int headerSize = 12;
+            for (String name : this.names) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                names.add(bytes);
+                headerSize += 2 + bytes.length + 1 + 4 + 8;
+            }
+            long[] offsets = new long[names.size()];
+            long offset = align(headerSize);
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = offset;
+                offset = align(offset + 4L * length(this.data.get(i)));
+            }
+
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(names.size());
+                for (int i = 0; i < offsets.length; i++) {
+                    Object table = this.data.get(i);
+                    header.putShort((short) names.get(i).length).put(names.get(i));
+                    header.put(table instanceof float[] ? FLOAT : INT);
+                    header.putInt(length(table)).putLong(offsets[i]);
+                }
+                channel.write(header.flip(), 0);
+                ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; i < offsets.length; i++) {
+                    long position = offsets[i];
+                    Object table = this.data.get(i);
+                    int length = length(table);
+                    for (int j = 0; j < length; j++) {
+                        if (table instanceof float[]) {
+                            chunk.putFloat(((float[]) table)[j]);
+                        } else {
+                            chunk.putInt(((int[]) table)[j]);
+                        }
+                        if (! chunk.hasRemaining() || j == length - 1) {
+                            chunk.flip();
+                            while (chunk.hasRemaining()) {
+                                position += channel.write(chunk, position);
+                            }
+                            chunk.clear();
+                        }
+                    }
+                }
+                channel.force(true);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        /**
+         * @brief The number of elements of a table.
+         * @param table - a float[] or int[]
+         * @return The length of the array.
+         */
+        private static int length(Object table) {
+            return table instanceof float[] ? ((float[]) table).length : ((int[]) table).length;
+        }
+
+        /**
+         * @brief Rounding an offset up to the table alignment.
+         * @param offset - a byte offset
+         * @return The next multiple of the alignment.
+         */
+        private static long align(long offset) {
+            return (offset + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestBatchT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the headless BatchT driver.
+ */
+
+package src;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestBatchT {
+
+    @Test
+    public void test_run() throws Exception {
+        BatchT.Result result = new BatchT(RandomPolicyT::new, 2).run(50, 1);
+        assertEquals(50, result.marks.length);
+        assertTrue(result.moves > 0);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(result.maxTiles[i] >= 4);
+        }
+        assertTrue(result.toString().contains("games: 50"));
+    }
+
+    @Test
+    public void test_run_threads() throws Exception {
+        BatchT.Result result1 = new BatchT(random -> new GreedyPolicyT(), 1).run(20, 5);
+        BatchT.Result result2 = new BatchT(random -> new GreedyPolicyT(), 3).run(20, 5);
+        assertArrayEquals(result1.marks, result2.marks);
+        assertEquals(result1.moves, result2.moves);
+    }
+
+    @Test
+    public void test_maxTile() {
+        assertEquals(0, BatchT.maxTile(0L));
+        assertEquals(2048, BatchT.maxTile(0x00B0000000000021L));
+    }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestBitBoardT.java
+ * Revised: 2026/10/17
+ * Description: A class testing BitBoardT objects.
+ */
+
+package src;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestBitBoardT {
+    public int boardSum(Board board) {
+        int sum = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                sum += board.getCell(i, j);
+            }
+        }
+        return sum;
+    }
+
+    private void setRow(Board board, int row, int a, int b, int c, int d) {
+        board.setCell(row, 0, a);
+        board.setCell(row, 1, b);
+        board.setCell(row, 2, c);
+        board.setCell(row, 3, d);
+    }
+
+    @Test
+    public void test_startBoard() {
+        for (int i = 0; i < 5; i++) {
+            BitBoardT board1 = new BitBoardT();
+            board1.startBoard();
+            assertTrue(boardSum(board1) == 4 || boardSum(board1) == 6);
+        }
+    }
+
+    @Test
+    public void test_addCell() {
+        BitBoardT board1 = new BitBoardT();
+        for (int i = 0; i < 16; i++) {
+            board1.addCell(2);
+        }
+        assertEquals(32, boardSum(board1));
+        assertTrue(board1.isFull());
+    }
+
+    @Test (expected = RuntimeException.class)
+    public void test_exception_1() {
+        BitBoardT board1 = new BitBoardT();
+        for (int i = 0; i < 17; i++) {
+            board1.addCell(4);
+        }
+    }
+
+    @Test
+    public void test_setCell() {
+        BitBoardT board1 = new BitBoardT();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                int num = 1 << (4 * i + j) % 16;
+                board1.setCell(i, j, num == 1 ? 0 : num);
+                assertEquals(num == 1 ? 0 : num, board1.getCell(i, j));
+            }
+        }
+        board1.setCell(3, 3, 2);
+        assertEquals(2, board1.getCell(3, 3));
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void test_exception_2() {
+        BitBoardT board1 = new BitBoardT();
+        board1.getCell(4, 3);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void test_exception_3() {
+        BitBoardT board1 = new BitBoardT();
+        board1.setCell(0, 0, 6);
+    }
+
+    @Test
+    public void test_isOver() {
+        BitBoardT board1 = new BitBoardT();
+        setRow(board1, 0, 2, 16, 4, 2);
+        setRow(board1, 1, 8, 128, 256, 8);
+        setRow(board1, 2, 32, 8, 4, 2);
+        setRow(board1, 3, 64, 16, 2, 8);
+        assertTrue(board1.isOver());
+        assertFalse(board1.getStatus());
+
+        board1.setCell(3, 3, 2);
+        assertFalse(board1.isOver());
+    }
+
+    @Test
+    public void test_moveBoard() {
+        BitBoardT board1 = new BitBoardT();
+        setRow(board1, 0, 32, 32, 32, 64);
+        board1.moveBoard(MoveT.Left);
+        assertEquals(64, board1.getCell(0, 0));
+        assertEquals(32, board1.getCell(0, 1));
+        assertEquals(64, board1.getCell(0, 2));
+        assertEquals(0, board1.getCell(0, 3));
+        assertEquals(64, board1.getMarks());
+
+        board1.moveBoard(MoveT.Right);
+        assertEquals(0, board1.getCell(0, 0));
+        assertEquals(64, board1.getCell(0, 1));
+        assertEquals(32, board1.getCell(0, 2));
+        assertEquals(64, board1.getCell(0, 3));
+
+        board1.moveBoard(MoveT.Down);
+        assertEquals(64, board1.getCell(3, 1));
+        assertEquals(32, board1.getCell(3, 2));
+        assertEquals(0, board1.getCell(0, 1));
+
+        board1.moveBoard(MoveT.Up);
+        assertEquals(64, board1.getCell(0, 3));
+        assertEquals(0, board1.getCell(3, 3));
+    }
+
+    @Test
+    public void test_expand() {
+        BitBoardT board1 = new BitBoardT(7);
+        MoveSetT moves = new MoveSetT();
+        board1.startBoard();
+        for (int step = 0; step < 500 && ! board1.isOver(); step++) {
+            moves.expand(board1.board);
+            BoardT board2 = new BoardT();
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    board2.setCell(i, j, board1.getCell(i, j));
+                }
+            }
+            assertEquals(board2.legalMoves(), moves.legal);
+            assertEquals(board1.legalMoves(), moves.legal);
+            for (MoveT move : MoveT.values()) {
+                assertEquals(MoveTableT.move(board1.board, move), moves.getBoard(move));
+                assertEquals(MoveTableT.score(board1.board, move), moves.getScore(move));
+            }
+            MoveT move = MoveT.values()[step % 4];
+            if (moves.isLegal(move)) {
+                board1.moveBoard(move);
+                board1.addCell(2);
+            }
+        }
+    }
+
+}
@@ -9,15 +9,15 @@ package src;
 
 import org.junit.*;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import static org.junit.Assert.*;
 import static org.junit.Assert.assertTrue;
 
 public class TestBoardT {
     public int boardSum(BoardT board) {
         int sum = 0;
-        for (ArrayList<Integer> row : board.board) {
+        for (List<Integer> row : board.board) {
             for (Integer cell : row) {
                 sum += cell;
             }
@@ -25,9 +25,10 @@ public class TestBoardT {
         return sum;
     }
 
+    private final RandomT random = new RandomT(2021);
+
     private int randomNum(){
-        double random = Math.random() * 10;
-        return (int) (random);
+        return random.nextInt(10);
     }
 
     @Test
@@ -54,6 +55,31 @@ public class TestBoardT {
         assertEquals(64, boardSum(board2));
     }
 
+    @Test
+    public void test_addCell_seeded() {
+        BoardT board1 = new BoardT();
+        BoardT board2 = new BoardT();
+        RandomT random1 = new RandomT(2048);
+        RandomT random2 = new RandomT(2048);
+        for (int i = 0; i < 16; i++) {
+            board1.addCell(2, random1);
+            board2.addCell(2, random2);
+            assertEquals(board1.board, board2.board);
+        }
+        assertTrue(board1.isFull());
+    }
+
+    @Test
+    public void test_startBoard_seeded() {
+        for (long seed = 0; seed < 5; seed++) {
+            BoardT board1 = new BoardT(seed);
+            BoardT board2 = new BoardT(seed);
+            board1.startBoard();
+            board2.startBoard();
+            assertEquals(board1.board, board2.board);
+        }
+    }
+
     @Test (expected = RuntimeException.class)
     public void test_exception_1() {
         BoardT board1 = new BoardT();
@@ -205,6 +231,52 @@ public class TestBoardT {
         assertTrue(board2.isOver());
     }
 
+    @Test
+    public void test_checks_afterMoves() {
+        BoardT board1 = new BoardT(2048);
+        board1.startBoard();
+        for (int step = 0; step < 300 && ! board1.isOver(); step++) {
+            try {
+                board1.moveBoard(MoveT.values()[step % 4]);
+            } catch (RuntimeException e) {
+                continue;
+            }
+            boolean horizontal = false;
+            boolean vertical = false;
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 3; j++) {
+                    horizontal |= board1.getCell(i, j) == board1.getCell(i, j + 1);
+                    vertical |= board1.getCell(j, i) == board1.getCell(j + 1, i);
+                }
+            }
+            assertEquals(horizontal, board1.horizontalCheck());
+            assertEquals(vertical, board1.verticalCheck());
+            if (! board1.isFull()) {
+                board1.addCell(2);
+            }
+        }
+    }
+
+    @Test
+    public void test_legalMoves() {
+        BoardT board1 = new BoardT();
+        assertEquals(0, board1.legalMoves());
+
+        board1.setCell(0, 0, 2);
+        assertEquals(MoveT.Right.bit() | MoveT.Down.bit(), board1.legalMoves());
+
+        board1.setCell(0, 1, 2);
+        assertEquals(MoveT.Left.bit() | MoveT.Right.bit() | MoveT.Down.bit(), board1.legalMoves());
+
+        for (int i = 0; i < 4; i++) {
+            board1.setCell(0, i, 2);
+            board1.setCell(1, i, 4);
+            board1.setCell(2, i, 8);
+            board1.setCell(3, i, 16);
+        }
+        assertEquals(MoveT.Left.bit() | MoveT.Right.bit(), board1.legalMoves());
+    }
+
     @Test (expected = RuntimeException.class)
     public void test_exception_9() {
         BoardT board1 = new BoardT();
@@ -297,6 +369,19 @@ public class TestBoardT {
         assertEquals(board1.getCell(3, 0), 0);
     }
 
+    @Test
+    public void test_mergeColumnUp_2() {
+        BoardT board1 = new BoardT();
+        board1.setCell(1, 0, 4);
+        board1.setCell(2, 0, 2);
+        board1.mergeColumnUp(0);
+        assertEquals(board1.getCell(0, 0), 4);
+        assertEquals(board1.getCell(1, 0), 2);
+        assertEquals(board1.getCell(2, 0), 0);
+        assertEquals(board1.getCell(3, 0), 0);
+        assertEquals(board1.getMarks(), 0);
+    }
+
     @Test (expected = RuntimeException.class)
     public void test_exception_11() {
         BoardT board1 = new BoardT();
@@ -0,0 +1,76 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestExpectimaxT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the ExpectimaxT player.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestExpectimaxT {
+
+    @Test
+    public void test_chooseMove_legal() {
+        ExpectimaxT player = new ExpectimaxT();
+        BitBoardT board1 = new BitBoardT(1);
+        board1.startBoard();
+        for (int i = 0; i < 50; i++) {
+            MoveT move = player.chooseMove(board1);
+            assertTrue((board1.legalMoves() & move.bit()) != 0);
+            board1.moveBoard(move);
+            board1.addCell(RandomT.tile(board1.getRandom()));
+        }
+        assertTrue(player.getNodes() > 0);
+        assertTrue(player.getHitRate() > 0);
+    }
+
+    @Test
+    public void test_chooseMove_over() {
+        BitBoardT board1 = new BitBoardT();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                board1.setCell(i, j, (i + j) % 2 == 0 ? 2 : 4);
+            }
+        }
+        assertNull(new ExpectimaxT().chooseMove(board1));
+    }
+
+    @Test
+    public void test_chooseMove_boardT() {
+        BoardT board1 = new BoardT();
+        board1.setCell(3, 0, 1024);
+        board1.setCell(3, 1, 1024);
+        board1.setCell(0, 3, 2);
+        MoveT move = new ExpectimaxT().chooseMove(board1);
+        assertTrue(move == MoveT.Left || move == MoveT.Right);
+    }
+
+    @Test
+    public void test_depthFor() {
+        ExpectimaxT player = new ExpectimaxT(new TranspositionTableT(10), 4);
+        assertEquals(2, player.depthFor(0L));
+        assertEquals(4, player.depthFor(0x1111111111111110L));
+    }
+
+    @Test
+    public void test_parallel_sameMove() {
+        BitBoardT board1 = new BitBoardT(3);
+        board1.startBoard();
+        for (int i = 0; i < 20; i++) {
+            ExpectimaxT player = new ExpectimaxT(new LockFreeTranspositionT(16), 3);
+            ParallelExpectimaxT parallel = new ParallelExpectimaxT(
+                    ForkJoinPool.commonPool(), new LockFreeTranspositionT(16), 3);
+            MoveT move = player.chooseMove(board1);
+            assertEquals(move, parallel.chooseMove(board1));
+            board1.moveBoard(move);
+            board1.addCell(RandomT.tile(board1.getRandom()));
+        }
+    }
+
+}
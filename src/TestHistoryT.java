@@ -0,0 +1,107 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestHistoryT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the undo/redo history.
+ */
+
+package src;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestHistoryT {
+
+    private static void move(PackedBoard board, HistoryT history) {
+        board.moveBoard(new GreedyPolicyT().chooseMove(board));
+        board.addCell(RandomT.tile(board.getRandom()));
+        history.record(board);
+    }
+
+    @Test
+    public void test_undoRedo() {
+        BitBoardT board = new BitBoardT(5);
+        board.startBoard();
+        HistoryT history = new HistoryT();
+        history.reset(board);
+        long start = board.board;
+        move(board, history);
+        long first = board.board;
+        int firstMarks = board.getMarks();
+        move(board, history);
+        long second = board.board;
+
+        assertTrue(history.undo(board));
+        assertEquals(first, board.board);
+        assertEquals(firstMarks, board.getMarks());
+        assertTrue(history.undo(board));
+        assertEquals(start, board.board);
+        assertEquals(0, board.getMarks());
+        assertFalse(history.undo(board));
+
+        assertTrue(history.redo(board));
+        assertTrue(history.redo(board));
+        assertEquals(second, board.board);
+        assertFalse(history.redo(board));
+    }
+
+    @Test
+    public void test_record_dropsRedo() {
+        BitBoardT board = new BitBoardT(5);
+        board.startBoard();
+        HistoryT history = new HistoryT();
+        history.reset(board);
+        move(board, history);
+        move(board, history);
+        history.undo(board);
+        move(board, history);
+        assertEquals(0, history.getRedoable());
+        assertEquals(2, history.getUndoable());
+    }
+
+    @Test
+    public void test_depth() {
+        BitBoardT board = new BitBoardT(5);
+        board.startBoard();
+        HistoryT history = new HistoryT(3);
+        history.reset(board);
+        long[] boards = new long[10];
+        for (int i = 0; i < boards.length; i++) {
+            move(board, history);
+            boards[i] = board.board;
+        }
+        assertEquals(3, history.getUndoable());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(history.undo(board));
+        }
+        assertEquals(boards[6], board.board);
+        assertFalse(history.undo(board));
+        assertEquals(3, history.getRedoable());
+    }
+
+    @Test
+    public void test_restore_boardT() {
+        BoardT board = new BoardT(9);
+        board.startBoard();
+        HistoryT history = new HistoryT();
+        history.reset(board);
+        for (int i = 0; i < 30; i++) {
+            move(board, history);
+        }
+        long packed = BitBoardT.pack(board);
+        int legal = board.legalMoves();
+        boolean full = board.isFull();
+        for (int i = 0; i < 10; i++) {
+            history.undo(board);
+        }
+        for (int i = 0; i < 10; i++) {
+            history.redo(board);
+        }
+        assertEquals(packed, BitBoardT.pack(board));
+        assertEquals(legal, board.legalMoves());
+        assertEquals(full, board.isFull());
+        assertEquals(BitBoardT.legalMoves(packed), board.legalMoves());
+    }
+
+}
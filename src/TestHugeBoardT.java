@@ -0,0 +1,159 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestHugeBoardT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the moves and reductions of HugeBoardT.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestHugeBoardT {
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUpClass() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void test_sameAsGridBoardT() {
+        RandomT random = new RandomT(21);
+        HugeBoardT huge = new HugeBoardT(8, 6, new RandomT(1), pool);
+        GridBoardT board = new GridBoardT(8, 6, new RandomT(1));
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 6; j++) {
+                int num = random.nextInt(4) == 0 ? 0 : 2 << random.nextInt(3);
+                huge.setCell(i, j, num);
+                board.setCell(i, j, num);
+            }
+        }
+        for (int k = 0; k < 200 && board.legalMoves() != 0; k++) {
+            assertEquals(board.legalMoves(), huge.legalMoves());
+            MoveT move = MoveT.values()[random.nextInt(4)];
+            if ((board.legalMoves() & move.bit()) == 0) {
+                continue;
+            }
+            board.moveBoard(move);
+            huge.moveBoard(move);
+            int num = RandomT.tile(random);
+            int x = random.nextInt(8);
+            int y = random.nextInt(6);
+            if (board.isEmpty(x, y)) {
+                board.setCell(x, y, num);
+                huge.setCell(x, y, num);
+            }
+            assertEquals(board.getMarks(), huge.getMarks());
+            for (int i = 0; i < 8; i++) {
+                for (int j = 0; j < 6; j++) {
+                    assertEquals(board.getCell(i, j), huge.getCell(i, j));
+                }
+            }
+        }
+        assertEquals(board.isOver(), huge.isOver());
+    }
+
+    @Test
+    public void test_parallelMoves() {
+        // several tasks and partial transpose blocks on both sides
+        int rows = 300;
+        int columns = 230;
+        HugeBoardT huge = new HugeBoardT(rows, columns, new RandomT(5), pool);
+        for (int i = 0; i < rows * columns / 2; i++) {
+            huge.addCell(RandomT.tile(huge.getRandom()));
+        }
+        int[] cells = new int[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                cells[i * columns + j] = huge.getCell(i, j);
+            }
+        }
+        long marks = 0;
+        for (MoveT move : new MoveT[] {MoveT.Up, MoveT.Left, MoveT.Down, MoveT.Right, MoveT.Up}) {
+            huge.moveBoard(move);
+            for (int line = 0; line < (move == MoveT.Up || move == MoveT.Down ? columns : rows); line++) {
+                if (move == MoveT.Up) {
+                    marks += SlideT.slide(cells, line, columns, rows);
+                } else if (move == MoveT.Down) {
+                    marks += SlideT.slide(cells, (rows - 1) * columns + line, -columns, rows);
+                } else if (move == MoveT.Left) {
+                    marks += SlideT.slide(cells, line * columns, 1, columns);
+                } else {
+                    marks += SlideT.slide(cells, line * columns + columns - 1, -1, columns);
+                }
+            }
+            assertEquals(marks, huge.getLongMarks());
+        }
+        long empty = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                assertEquals(cells[i * columns + j], huge.getCell(i, j));
+                empty += cells[i * columns + j] == 0 ? 1 : 0;
+            }
+        }
+        assertEquals(empty, huge.getEmpty());
+    }
+
+    @Test
+    public void test_fill() {
+        HugeBoardT huge = new HugeBoardT(30, 40, new RandomT(7), pool);
+        for (int i = 0; i < 1200; i++) {
+            huge.addCell(2 << (i % 2));
+        }
+        assertTrue(huge.isFull());
+        assertEquals(0, huge.getEmpty());
+        assertEquals(huge.legalMoves() == 0, huge.isOver());
+        assertEquals(huge.legalMoves() != 0, huge.getStatus());
+    }
+
+    @Test
+    public void test_over() {
+        HugeBoardT huge = new HugeBoardT(3, 3, new RandomT(7), pool);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                huge.setCell(i, j, 2 << ((i + j) % 2));
+            }
+        }
+        assertTrue(huge.isFull());
+        assertEquals(0, huge.legalMoves());
+        assertTrue(huge.isOver());
+        assertFalse(huge.getStatus());
+    }
+
+    @Test
+    public void test_setCells() {
+        HugeBoardT huge = new HugeBoardT(20, 30, new RandomT(7), pool);
+        for (int i = 0; i < 300; i++) {
+            huge.addCell(2);
+        }
+        int[] cells = huge.getCells();
+        huge.moveBoard(MoveT.Left);
+        assertNotEquals(300, huge.getEmpty());
+        huge.setCells(cells);
+        assertEquals(300, huge.getEmpty());
+        assertArrayEquals(cells, huge.getCells());
+    }
+
+    @Test (expected = RuntimeException.class)
+    public void test_exception_1() {
+        HugeBoardT huge = new HugeBoardT(1, 1, new RandomT(7), pool);
+        huge.addCell(2);
+        huge.addCell(2);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void test_exception_2() {
+        new HugeBoardT(10, 20, new RandomT(7), pool).getCell(10, 0);
+    }
+
+}
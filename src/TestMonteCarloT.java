@@ -0,0 +1,58 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestMonteCarloT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the MonteCarloT player.
+ */
+
+package src;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class TestMonteCarloT {
+
+    @Test
+    public void test_chooseMove_legal() {
+        MonteCarloT player = new MonteCarloT(64, 0, new RandomT(1));
+        BitBoardT board1 = new BitBoardT(1);
+        board1.startBoard();
+        for (int i = 0; i < 20; i++) {
+            MoveT move = player.chooseMove(board1);
+            assertTrue((board1.legalMoves() & move.bit()) != 0);
+            board1.moveBoard(move);
+            board1.addCell(RandomT.tile(board1.getRandom()));
+        }
+        assertTrue(player.getPlayouts() >= 20 * 64);
+    }
+
+    @Test
+    public void test_chooseMove_seeded() {
+        BitBoardT board1 = new BitBoardT(2);
+        board1.startBoard();
+        MoveT move1 = new MonteCarloT(64, 0, new RandomT(9)).chooseMove(board1);
+        MoveT move2 = new MonteCarloT(64, 0, new RandomT(9)).chooseMove(board1);
+        assertEquals(move1, move2);
+    }
+
+    @Test
+    public void test_chooseMove_over() {
+        BitBoardT board1 = new BitBoardT();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                board1.setCell(i, j, (i + j) % 2 == 0 ? 2 : 4);
+            }
+        }
+        assertNull(new MonteCarloT().chooseMove(board1));
+    }
+
+    @Test
+    public void test_playout() {
+        MonteCarloT player = new MonteCarloT(64, 0, new RandomT(3));
+        int marks = player.playout(0x0000000000000011L);
+        assertTrue(marks >= 0);
+        assertEquals(0, marks % 2);
+    }
+
+}
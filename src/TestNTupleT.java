@@ -0,0 +1,57 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestNTupleT.java
+ * Revised: 2026/10/17
+ * Description: A class testing NTupleT networks and their training.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.Assert.*;
+
+public class TestNTupleT {
+
+    @Test
+    public void test_symmetries() throws Exception {
+        NTupleT network = new NTupleT();
+        new TrainerT(network, 0.1f).train(20, 1, 1);
+        long board = 0x0123456789ABCDE1L;
+        float value = network.evaluate(board);
+        assertEquals(value, network.evaluate(BitBoardT.mirror(board)), 1e-3f);
+        assertEquals(value, network.evaluate(BitBoardT.flip(board)), 1e-3f);
+        assertEquals(value, network.evaluate(BitBoardT.transpose(board)), 1e-3f);
+    }
+
+    @Test
+    public void test_train() throws Exception {
+        NTupleT network = new NTupleT();
+        TrainerT trainer = new TrainerT(network, 0.1f);
+        trainer.train(50, 2, 7);
+        assertEquals(50, trainer.getGames());
+        assertTrue(trainer.getMeanMarks() > 0);
+        assertTrue(network.evaluate(0x0000000000000011L) != 0);
+    }
+
+    @Test
+    public void test_saveLoad() throws Exception {
+        NTupleT network = new NTupleT();
+        new TrainerT(network, 0.1f).train(20, 1, 3);
+        Path path = Files.createTempFile("ntuple", ".bin");
+        try {
+            network.save(path);
+            NTupleT loaded = NTupleT.load(path);
+            long board = 0x0000123400110002L;
+            assertEquals(network.evaluate(board), loaded.evaluate(board), 0f);
+
+            BitBoardT board1 = new BitBoardT(board, new RandomT(1));
+            assertEquals(network.chooseMove(board1), loaded.chooseMove(board1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
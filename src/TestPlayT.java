@@ -0,0 +1,133 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestPlayT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the scripted mode of PlayT.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TestPlayT {
+
+    private static String render(PackedBoard board, String script) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PlayT.playScript(board, new BufferedReader(new StringReader(script)), new PrintStream(bytes));
+        return bytes.toString();
+    }
+
+    // the outcome lines, a number then a word, without the rendered boards
+    private static String[] play(PackedBoard board, String script) throws Exception {
+        return Arrays.stream(render(board, script).split("\n"))
+                .filter(line -> line.matches("\\d+ [A-Za-z].*"))
+                .toArray(String[]::new);
+    }
+
+    @Test
+    public void test_playScript_render() throws Exception {
+        BitBoardT board = new BitBoardT(7);
+        String[] lines = render(board, "Print\nL\n").split("\n");
+        // the requested board, the outcome, then the final board
+        assertEquals(RendererT.SEPARATOR, lines[0]);
+        assertEquals("Marks: 0", lines[1]);
+        assertTrue(lines[7].startsWith("1 Left OK"));
+        assertEquals(RendererT.SEPARATOR, lines[8]);
+        assertEquals("Marks: " + board.getMarks(), lines[9]);
+        assertEquals(8 + 7, lines.length);
+    }
+
+    @Test
+    public void test_playScript_endingMessage() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            script.append("LURD");
+        }
+        String output = render(new BitBoardT(3), script.append('\n').toString());
+        assertTrue(output.contains("GAME OVER"));
+    }
+
+    @Test
+    public void test_playScript_outcomes() throws Exception {
+        String[] outcomes = play(new BitBoardT(7), "Left\nu d X\nPrint\nlPr\n");
+        assertEquals(6, outcomes.length);
+        assertTrue(outcomes[0].startsWith("1 Left "));
+        assertTrue(outcomes[1].startsWith("2 Up "));
+        assertTrue(outcomes[2].startsWith("3 Down "));
+        assertEquals("4 X INVALID", outcomes[3]);
+        assertTrue(outcomes[4].startsWith("5 Left "));
+        assertTrue(outcomes[5].startsWith("6 Right "));
+    }
+
+    @Test
+    public void test_playScript_sameAsMoves() throws Exception {
+        String script = "LURDLURDLLRRUUDD\nDDDDDD\n";
+        BitBoardT scripted = new BitBoardT(11);
+        String[] outcomes = play(scripted, script);
+
+        BitBoardT board = new BitBoardT(11);
+        board.startBoard();
+        int i = 0;
+        for (char letter : script.replace("\n", "").toCharArray()) {
+            MoveT move = MoveT.fromLetter(letter);
+            if ((board.legalMoves() & move.bit()) == 0) {
+                assertEquals((i + 1) + " " + move + " ILLEGAL", outcomes[i]);
+            } else {
+                board.moveBoard(move);
+                board.addCell(RandomT.tile(board.getRandom()));
+                assertEquals((i + 1) + " " + move + " OK " + board.getMarks(), outcomes[i]);
+            }
+            i++;
+        }
+        assertEquals(board.board, scripted.board);
+        assertEquals(board.getMarks(), scripted.getMarks());
+    }
+
+    @Test
+    public void test_playScript_over() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            script.append("LURD");
+        }
+        BitBoardT board = new BitBoardT(3);
+        String[] outcomes = play(board, script.append('\n').toString());
+        assertFalse(board.getStatus());
+        assertEquals(8000, outcomes.length);
+        assertTrue(outcomes[7999].endsWith(" OVER"));
+    }
+
+    @Test
+    public void test_playScript_undo() throws Exception {
+        BitBoardT board = new BitBoardT(7);
+        String[] outcomes = play(board, "Undo\nL\nUndo\nRedo\nRedo\n");
+        assertEquals("1 Undo NONE", outcomes[0]);
+        assertTrue(outcomes[1].startsWith("2 Left OK"));
+        assertEquals("3 Undo OK 0", outcomes[2]);
+        assertEquals("4 Redo OK " + outcomes[1].substring("2 Left OK ".length()), outcomes[3]);
+        assertEquals("5 Redo NONE", outcomes[4]);
+    }
+
+    @Test
+    public void test_playScript_saveLoad() throws Exception {
+        Path path = Files.createTempFile("game", ".save");
+        try {
+            String[] outcomes = play(new BitBoardT(7), "LURD\nSave " + path + "\nLURD\nLoad " + path + "\nLoad /nonexistent/game.save\n");
+            assertTrue(outcomes[4].startsWith("5 Save OK "));
+            assertEquals("10 Load " + outcomes[4].substring("5 Save ".length()), outcomes[9]);
+            assertEquals("11 Load FAILED", outcomes[10]);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestRendererT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the buffered terminal renderer.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.*;
+
+public class TestRendererT {
+
+    @Test
+    public void test_render_plain() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BitBoardT board = new BitBoardT(0x0000000000000021L, new RandomT(1));
+        board.marks = 8;
+        new RendererT(out, false).render(board);
+        String empty = "0      0      0      0      \n";
+        assertEquals(RendererT.SEPARATOR + "\nMarks: 8\n" + RendererT.SEPARATOR + "\n"
+                + "2      4      0      0      \n" + empty + empty + empty, out.toString());
+    }
+
+    @Test
+    public void test_appendCell() {
+        assertEquals("8      ", RendererT.appendCell(new StringBuilder(), 8).toString());
+        assertEquals("2048   ", RendererT.appendCell(new StringBuilder(), 2048).toString());
+        assertEquals("16384  ", RendererT.appendCell(new StringBuilder(), 16384).toString());
+        assertEquals("1048576 ", RendererT.appendCell(new StringBuilder(), 1048576).toString());
+    }
+
+    @Test
+    public void test_render_ansi() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RendererT renderer = new RendererT(out, true);
+        BitBoardT board = new BitBoardT(0x0000000000000011L, new RandomT(1));
+        renderer.render(board);
+        assertTrue(out.toString().startsWith("\033[H\033[2J" + RendererT.SEPARATOR));
+
+        out.reset();
+        board.moveBoard(MoveT.Right);
+        renderer.render(board);
+        assertEquals("\033[2;1HMarks: 4\033[K" + "\033[4;1H0      " + "\033[4;8H0      "
+                + "\033[4;22H4      " + "\033[8;1H\033[J", out.toString());
+
+        out.reset();
+        renderer.render(board);
+        assertEquals("\033[8;1H\033[J", out.toString());
+    }
+
+}
@@ -0,0 +1,164 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestReplayT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the binary replay log.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TestReplayT {
+
+    @Test
+    public void test_encode() {
+        int code = ReplayT.encode(MoveT.Down, 13, 2);
+        assertTrue(code < ReplayT.END);
+        assertEquals(MoveT.Down, ReplayT.move(code));
+        assertEquals(13, ReplayT.cell(code));
+        assertEquals(2, ReplayT.exponent(code));
+        assertEquals(MoveT.Left, ReplayT.move(ReplayT.encode(MoveT.Left, 0, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_encode_tile() {
+        ReplayT.encode(MoveT.Up, 0, 3);
+    }
+
+    @Test
+    public void test_roundTrip() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BitBoardT[] boards = new BitBoardT[5];
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = ReplayT.record(writer, new GreedyPolicyT(), 100 + i);
+            }
+        }
+        try (ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (BitBoardT board : boards) {
+                assertTrue(reader.nextGame());
+                while (reader.nextMove() >= 0) {
+                    assertFalse(reader.isEnded());
+                }
+                assertEquals(board.board, reader.getBoard());
+                assertEquals(board.board, reader.getFinalBoard());
+                assertEquals(board.getMarks(), reader.getMarks());
+                assertEquals(board.getMarks(), reader.getFinalMarks());
+            }
+            assertFalse(reader.nextGame());
+        }
+    }
+
+    @Test
+    public void test_seed() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            ReplayT.record(writer, new GreedyPolicyT(), -5);
+        }
+        ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertTrue(reader.nextGame());
+        assertEquals(-5, reader.getSeed());
+        BitBoardT board = new BitBoardT(-5);
+        board.startBoard();
+        assertEquals(board.board, reader.getStart());
+    }
+
+    @Test
+    public void test_boardT() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BoardT board = new BoardT(7);
+        board.startBoard();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            writer.begin(7, BitBoardT.pack(board));
+            board.setRecorder(writer);
+            GreedyPolicyT player = new GreedyPolicyT();
+            for (int i = 0; i < 50; i++) {
+                board.moveBoard(player.chooseMove(board));
+                board.addCell(RandomT.tile(board.getRandom()));
+            }
+            writer.end(board.getMarks(), BitBoardT.pack(board));
+            assertEquals(50, writer.getMoves());
+        }
+        assertEquals(8 + 16 + 50 + 13, bytes.size());
+        ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertTrue(reader.nextGame());
+        reader.seek(50);
+        assertEquals(BitBoardT.pack(board), reader.getBoard());
+        assertEquals(board.getMarks(), reader.getMarks());
+    }
+
+    @Test
+    public void test_seek_skip() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            ReplayT.record(writer, new GreedyPolicyT(), 1);
+            ReplayT.record(writer, new GreedyPolicyT(), 2);
+        }
+        ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertTrue(reader.nextGame());
+        long early = reader.seek(10);
+        assertEquals(10, reader.getMoves());
+        assertNotEquals(reader.getStart(), early);
+        assertTrue(reader.nextGame());
+        assertEquals(2, reader.getSeed());
+        reader.seek(Integer.MAX_VALUE);
+        assertTrue(reader.isEnded());
+        assertEquals(reader.getFinalBoard(), reader.getBoard());
+    }
+
+    @Test(expected = EOFException.class)
+    public void test_truncated() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            ReplayT.record(writer, new GreedyPolicyT(), 1);
+        }
+        byte[] log = bytes.toByteArray();
+        ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(Arrays.copyOf(log, log.length - 20)));
+        assertTrue(reader.nextGame());
+        reader.seek(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void test_corrupt() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            ReplayT.record(writer, new GreedyPolicyT(), 1);
+        }
+        byte[] log = bytes.toByteArray();
+        // bit 7 set on the first move byte, which would otherwise decode as the same move
+        log[8 + 16] |= (byte) 0x80;
+        ReplayT.Reader reader = new ReplayT.Reader(new ByteArrayInputStream(log));
+        assertTrue(reader.nextGame());
+        try {
+            reader.nextMove();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("corrupt log"));
+        }
+        reader = new ReplayT.Reader(new ByteArrayInputStream(log));
+        assertTrue(reader.nextGame());
+        try {
+            reader.nextGame();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("corrupt log"));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_spawn_withoutMove() throws Exception {
+        ReplayT.Writer writer = new ReplayT.Writer(new ByteArrayOutputStream());
+        writer.begin(0, 0L);
+        writer.spawn(0, 1);
+    }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestServerT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the game server and its metrics.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.Assert.*;
+
+public class TestServerT {
+
+    @Test
+    public void test_session() throws Exception {
+        try (ServerT server = new ServerT(0)) {
+            session(server.getPort());
+            assertTrue(server.getMetrics().getLatency(0.99) > 0);
+        }
+    }
+
+    @Test
+    public void test_rejected() throws Exception {
+        ExecutorService sessions = ServerT.newSessionExecutor();
+        sessions.shutdown();
+        try (ServerT server = new ServerT(0, sessions);
+             Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            // the connection is closed instead of left open without a session
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    public void test_session_nio() throws Exception {
+        try (NioServerT server = new NioServerT(0)) {
+            session(server.getPort());
+            assertTrue(server.getMetrics().getLatency(0.99) > 0);
+        }
+    }
+
+    @Test
+    public void test_pipelined_nio() throws Exception {
+        try (NioServerT server = new NioServerT(0);
+             Socket socket = new Socket("localhost", server.getPort());
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            StringBuilder commands = new StringBuilder();
+            for (int i = 0; i < 500; i++) {
+                commands.append(i % 2 == 0 ? "Left\r\n" : " Right \n");
+            }
+            socket.getOutputStream().write(commands.append("Quit\n").toString().getBytes(StandardCharsets.US_ASCII));
+            for (int i = 0; i < 500; i++) {
+                String result = in.readLine().split(" ")[0];
+                assertTrue(result.equals("OK") || result.equals("ILLEGAL"));
+            }
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    public void test_reply_bytes() {
+        BitBoardT board = new BitBoardT(0xF000000000B00021L, new RandomT(1));
+        board.marks = 123456;
+        ByteBuffer bytes = ProtocolT.reply(ByteBuffer.allocate(ProtocolT.MAX_REPLY), ProtocolT.ILLEGAL, board);
+        String text = ProtocolT.reply(new StringBuilder(), ProtocolT.ILLEGAL, board).toString();
+        assertEquals(text, new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII));
+        assertTrue(text.startsWith("ILLEGAL 123456 ON 2 4 0 0 0 2048 0"));
+        assertTrue(text.endsWith(" 0 0 0 32768\n"));
+    }
+
+    @Test
+    public void test_parseMove_bytes() {
+        ByteBuffer line = ByteBuffer.wrap("xDown".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(MoveT.Down, ProtocolT.parseMove(line, 1, 5));
+        assertNull(ProtocolT.parseMove(line, 0, 5));
+        assertNull(ProtocolT.parseMove(line, 1, 4));
+    }
+
+    private static void session(int port) throws Exception {
+        try (Socket socket = new Socket("localhost", port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true)) {
+            out.println("Board");
+            String[] board = in.readLine().split(" ");
+            assertEquals("BOARD", board[0]);
+            assertEquals("0", board[1]);
+            assertEquals("ON", board[2]);
+            assertEquals(19, board.length);
+
+            for (String move : new String[] {"Left", "Up", "Right", "Down"}) {
+                out.println(move);
+                String result = in.readLine().split(" ")[0];
+                assertTrue(result.equals("OK") || result.equals("ILLEGAL"));
+            }
+            out.println("Jump");
+            assertEquals("ERR unknown command", in.readLine());
+            out.println("New");
+            assertTrue(in.readLine().startsWith("NEW 0 ON"));
+            out.println("Stats");
+            assertTrue(in.readLine().startsWith("STATS sessions=1 total=1 moves=4"));
+        }
+    }
+
+    @Test
+    public void test_play() {
+        BitBoardT board = new BitBoardT(0x0000000000000011L, new RandomT(1));
+        assertFalse(ProtocolT.play(board, MoveT.Up));
+        assertTrue(ProtocolT.play(board, MoveT.Right));
+        assertEquals(4, board.getMarks());
+        assertEquals(4, board.getCell(0, 3));
+        assertEquals(14, Integer.bitCount(BitBoardT.emptyMask(board.board)));
+    }
+
+    @Test
+    public void test_latency() {
+        MetricsT metrics = new MetricsT();
+        assertEquals(0, metrics.getLatency(0.5));
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordMove(i * 1000);
+        }
+        assertEquals(100, metrics.getMoves());
+        long p50 = metrics.getLatency(0.5);
+        long p99 = metrics.getLatency(0.99);
+        assertTrue(p50 >= 50000 && p50 < 50000 * 1.125);
+        assertTrue(p99 >= 99000 && p99 < 99000 * 1.125);
+    }
+
+}
@@ -0,0 +1,218 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestSlideT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the SlideT kernel and boards of other sizes.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TestSlideT {
+
+    @Test
+    public void test_slide() {
+        int[] cells = {2, 2, 4, 0, 4, 8, 8, 8};
+        assertEquals(4 + 8 + 16, SlideT.slide(cells, 0, 1, 8));
+        assertArrayEquals(new int[] {4, 8, 16, 8, 0, 0, 0, 0}, cells);
+    }
+
+    @Test
+    public void test_slide_backwards() {
+        int[] cells = {2, 2, 2, 0, 0};
+        assertEquals(4, SlideT.slide(cells, 4, -1, 5));
+        assertArrayEquals(new int[] {0, 0, 0, 2, 4}, cells);
+    }
+
+    @Test
+    public void test_slide_column() {
+        // the second column of a 3x2 flat board
+        int[] cells = {1, 0, 1, 2, 1, 2};
+        assertEquals(4, SlideT.slide(cells, 1, 2, 3));
+        assertArrayEquals(new int[] {1, 4, 1, 0, 1, 0}, cells);
+        assertFalse(SlideT.canSlide(cells, 1, 2, 3));
+        assertTrue(SlideT.canSlide(cells, 0, 2, 3));
+    }
+
+    @Test
+    public void test_sameAsMoveTable() {
+        int[] cells = new int[4];
+        for (int row = 0; row < 1 << 16; row++) {
+            for (int i = 0; i < 4; i++) {
+                int e = (row >>> (4 * i)) & 0xF;
+                // MoveTableT never merges two 32768s, the kernel does
+                cells[i] = e == 0 || e == BitBoardT.MAX_EXPONENT ? 0 : 1 << e;
+            }
+            int packed = 0;
+            for (int i = 0; i < 4; i++) {
+                packed |= BitBoardT.exponent(cells[i]) << (4 * i);
+            }
+            int[] left = cells.clone();
+            assertEquals(MoveTableT.score(packed), SlideT.slide(left, 0, 1, 4));
+            int[] right = cells.clone();
+            assertEquals(MoveTableT.score(packed), SlideT.slide(right, 3, -1, 4));
+            int moved = 0;
+            for (int i = 0; i < 4; i++) {
+                moved |= BitBoardT.exponent(left[i]) << (4 * i);
+            }
+            assertEquals(MoveTableT.moveLeft(packed), moved);
+            moved = 0;
+            for (int i = 0; i < 4; i++) {
+                moved |= BitBoardT.exponent(right[i]) << (4 * i);
+            }
+            assertEquals(MoveTableT.moveRight(packed), moved);
+            assertEquals(moved != packed, SlideT.canSlide(cells, 3, -1, 4));
+        }
+    }
+
+    @Test
+    public void test_board_5x5() {
+        GridBoardT board = new GridBoardT(5, 5, new RandomT(3));
+        for (int j = 0; j < 5; j++) {
+            board.setCell(4, j, 2);
+        }
+        assertEquals(MoveT.Left.bit() | MoveT.Right.bit() | MoveT.Up.bit(), board.legalMoves());
+        board.moveBoard(MoveT.Right);
+        assertEquals(8, board.getMarks());
+        assertEquals(Arrays.asList(0, 0, 2, 4, 4), board.board.get(4));
+        board.moveBoard(MoveT.Up);
+        assertEquals(Arrays.asList(0, 0, 2, 4, 4), board.board.get(0));
+        assertEquals(5, board.getRows());
+        assertEquals(5, board.getColumns());
+    }
+
+    @Test
+    public void test_board_8x8() {
+        GridBoardT board = new GridBoardT(8, 8, new RandomT(5));
+        for (int i = 0; i < 64; i++) {
+            board.addCell(2);
+        }
+        assertTrue(board.isFull());
+        assertFalse(board.isOver());
+        board.moveBoard(MoveT.Down);
+        assertEquals(32 * 4, board.getMarks());
+        for (int j = 0; j < 8; j++) {
+            assertEquals(0, board.getCell(3, j));
+            assertEquals(4, board.getCell(7, j));
+        }
+    }
+
+    @Test
+    public void test_board_nonSquare() {
+        GridBoardT board = new GridBoardT(2, 6, new RandomT(9));
+        board.startBoard();
+        while (board.legalMoves() != 0) {
+            board.moveBoard(MoveT.values()[Integer.numberOfTrailingZeros(board.legalMoves())]);
+            board.addCell(RandomT.tile(board.getRandom()));
+        }
+        assertTrue(board.isOver());
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 6; j++) {
+                assertNotEquals(0, board.getCell(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void test_board_sameAsBitBoard() {
+        GridBoardT board = new GridBoardT(4, 4, new RandomT(13));
+        BitBoardT bits = new BitBoardT(13);
+        board.startBoard();
+        bits.startBoard();
+        RandomPolicyT player = new RandomPolicyT(new RandomT(17));
+        for (MoveT move = player.chooseMove(bits); move != null; move = player.chooseMove(bits)) {
+            board.moveBoard(move);
+            bits.moveBoard(move);
+            board.addCell(RandomT.tile(board.getRandom()));
+            bits.addCell(RandomT.tile(bits.getRandom()));
+        }
+        assertEquals(bits.getMarks(), board.getMarks());
+        for (int i = 0; i < 16; i++) {
+            assertEquals(bits.getCell(i / 4, i % 4), board.getCell(i / 4, i % 4));
+        }
+    }
+
+    @Test
+    public void test_board_largestTile() {
+        // two 32768s and a 2 in the top row: every 4x4 engine only slides the 2
+        Board[] boards = {new BoardT(1), new GridBoardT(4, 4, new RandomT(1)), new BitBoardT(1)};
+        for (Board board : boards) {
+            board.setCell(0, 0, 32768);
+            board.setCell(0, 1, 32768);
+            board.setCell(0, 3, 2);
+            assertEquals(MoveT.Left.bit() | MoveT.Right.bit() | MoveT.Down.bit(), board.legalMoves());
+            board.moveBoard(MoveT.Left);
+            assertEquals(0, board.getMarks());
+            assertEquals(2, board.getCell(0, 2));
+            assertEquals(0x1FFL, BitBoardT.pack(board));
+        }
+        // a board full of 32768s is over on every 4x4 engine
+        for (Board board : new Board[] {new BoardT(1), new BitBoardT(1)}) {
+            for (int i = 0; i < 16; i++) {
+                board.setCell(i / 4, i % 4, 32768);
+            }
+            assertTrue(board.isOver());
+            assertEquals(0, board.legalMoves());
+        }
+        int[] line = {32768, 32768, 2, 2};
+        assertEquals(4, SlideT.slide(line, 0, 1, 4, 32768));
+        assertArrayEquals(new int[] {32768, 32768, 4, 0}, line);
+    }
+
+    @Test
+    public void test_pack_message() {
+        BoardT board = new BoardT(1);
+        board.setCell(1, 2, 65536);
+        try {
+            BitBoardT.pack(board);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("tile 65536 at (1, 2) cannot be packed, the largest tile is 32768", e.getMessage());
+        }
+    }
+
+    @Test
+    public void test_board_view() {
+        GridBoardT board = new GridBoardT(3, 4, new RandomT(11));
+        board.setCell(2, 0, 2);
+        board.setCell(2, 3, 2);
+        board.setCell(0, 3, 32768);
+        board.setCell(1, 0, 32768);
+        board.moveBoard(MoveT.Left);
+        assertEquals(Arrays.asList(4, 0, 0, 0), board.board.get(2));
+        // unlike a 4x4 board, a board of another size merges two 32768s
+        board.moveBoard(MoveT.Up);
+        assertEquals(Arrays.asList(65536, 0, 0, 0), board.board.get(0));
+        assertEquals(Arrays.asList(4, 0, 0, 0), board.board.get(1));
+        assertEquals(4 + 65536, board.getMarks());
+        // the counters behind isFull and the checks follow moves made in place
+        assertEquals(MoveT.Right.bit() | MoveT.Down.bit(), board.legalMoves());
+        assertFalse(board.isFull());
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void test_board_view_readOnly() {
+        new GridBoardT(2, 2).board.get(0).set(0, 2);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void test_exception_1() {
+        new GridBoardT(9, 8);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void test_exception_2() {
+        new GridBoardT(3, 5).getCell(3, 0);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void test_exception_3() {
+        new GridBoardT(3, 5).getCell(1, -1);
+    }
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestSnapshotT.java
+ * Revised: 2026/10/17
+ * Description: A class testing saving and resuming games.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class TestSnapshotT {
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        this.path = Files.createTempFile("games", ".save");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    private static void play(Board board, int moves) {
+        GreedyPolicyT player = new GreedyPolicyT();
+        for (int i = 0; i < moves; i++) {
+            board.moveBoard(player.chooseMove(board));
+            board.addCell(RandomT.tile(board.getRandom()));
+        }
+    }
+
+    @Test
+    public void test_randomState() {
+        RandomT random1 = new RandomT(3);
+        random1.nextLong();
+        RandomT random2 = new RandomT(0);
+        random2.setState(random1.getState());
+        assertEquals(random1.nextLong(), random2.nextLong());
+    }
+
+    @Test
+    public void test_codec() {
+        BoardT board = new BoardT(4);
+        board.startBoard();
+        play(board, 20);
+        ByteBuffer buffer = ByteBuffer.allocate(SnapshotT.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        SnapshotT.encode(board, buffer);
+        assertFalse(buffer.hasRemaining());
+
+        BitBoardT copy = new BitBoardT(new RandomT(0));
+        SnapshotT.decode(buffer.flip(), copy);
+        assertEquals(BitBoardT.pack(board), copy.board);
+        assertEquals(board.getMarks(), copy.getMarks());
+        assertTrue(copy.getStatus());
+    }
+
+    @Test
+    public void test_saveLoad_resumes() throws IOException {
+        BitBoardT board = new BitBoardT(8);
+        board.startBoard();
+        play(board, 30);
+        SnapshotT.save(this.path, board);
+        play(board, 30);
+
+        BoardT resumed = new BoardT();
+        SnapshotT.load(this.path, resumed);
+        play(resumed, 30);
+        assertEquals(board.board, BitBoardT.pack(resumed));
+        assertEquals(board.getMarks(), resumed.getMarks());
+        assertFalse(Files.exists(this.path.resolveSibling(this.path.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void test_saveAll() throws IOException {
+        List<BitBoardT> boards = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            BitBoardT board = new BitBoardT(i);
+            board.startBoard();
+            boards.add(board);
+        }
+        boards.get(5).status = false;
+        SnapshotT.saveAll(this.path, boards);
+        assertEquals(SnapshotT.HEADER_SIZE + 100000L * SnapshotT.RECORD_SIZE, Files.size(this.path));
+
+        List<BitBoardT> loaded = SnapshotT.loadAll(this.path);
+        assertEquals(boards.size(), loaded.size());
+        for (int i = 0; i < boards.size(); i++) {
+            assertEquals(boards.get(i).board, loaded.get(i).board);
+            assertEquals(((RandomT) boards.get(i).getRandom()).getState(), ((RandomT) loaded.get(i).getRandom()).getState());
+        }
+        assertFalse(loaded.get(5).getStatus());
+    }
+
+    @Test(expected = IOException.class)
+    public void test_load_truncated() throws IOException {
+        BitBoardT board = new BitBoardT(8);
+        board.startBoard();
+        SnapshotT.save(this.path, board);
+        byte[] bytes = Files.readAllBytes(this.path);
+        Files.write(this.path, Arrays.copyOf(bytes, bytes.length - 1));
+        SnapshotT.load(this.path, new BitBoardT());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_save_foreignRandom() throws IOException {
+        SnapshotT.save(this.path, new BitBoardT(new SplittableRandom(1)));
+    }
+
+}
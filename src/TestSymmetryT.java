@@ -0,0 +1,132 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestSymmetryT.java
+ * Revised: 2026/10/17
+ * Description: A class testing board symmetries and the opening book.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class TestSymmetryT {
+
+    // a board none of whose symmetries is the board itself
+    private final static long BOARD = 0x0000000100230456L;
+
+    @Test
+    public void test_transform() {
+        long[] symmetries = new long[SymmetryT.COUNT];
+        NTupleT.fillSymmetries(BOARD, symmetries);
+        for (int s = 0; s < SymmetryT.COUNT; s++) {
+            assertEquals(symmetries[s], SymmetryT.transform(BOARD, s));
+            for (int t = 0; t < s; t++) {
+                assertNotEquals(symmetries[t], symmetries[s]);
+            }
+        }
+    }
+
+    @Test
+    public void test_moves() {
+        RandomT random = new RandomT(3);
+        for (int i = 0; i < 1000; i++) {
+            long board = random.nextLong() & 0x7777777777777777L;
+            for (int s = 0; s < SymmetryT.COUNT; s++) {
+                long symmetric = SymmetryT.transform(board, s);
+                for (MoveT move : MoveT.values()) {
+                    MoveT to = SymmetryT.to(move, s);
+                    assertEquals(move, SymmetryT.from(to, s));
+                    assertEquals(SymmetryT.transform(MoveTableT.move(board, move), s), MoveTableT.move(symmetric, to));
+                    assertEquals(MoveTableT.score(board, move), MoveTableT.score(symmetric, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_canonical() {
+        RandomT random = new RandomT(5);
+        for (int i = 0; i < 1000; i++) {
+            long board = random.nextLong();
+            long canonical = SymmetryT.canonical(board);
+            assertEquals(canonical, SymmetryT.transform(board, SymmetryT.canonicalSymmetry(board)));
+            for (int s = 0; s < SymmetryT.COUNT; s++) {
+                long symmetric = SymmetryT.transform(board, s);
+                assertEquals(canonical, SymmetryT.canonical(symmetric));
+                assertTrue(Long.compareUnsigned(canonical, symmetric) <= 0);
+            }
+        }
+        assertEquals(0L, SymmetryT.canonical(0L));
+    }
+
+    @Test
+    public void test_expectimax_symmetric() {
+        BitBoardT board1 = new BitBoardT(BOARD, new RandomT(1));
+        MoveT move = new ExpectimaxT().chooseMove(board1);
+        for (int s = 0; s < SymmetryT.COUNT; s++) {
+            long symmetric = SymmetryT.transform(BOARD, s);
+            assertEquals(SymmetryT.to(move, s), new ExpectimaxT().bestMove(symmetric));
+        }
+    }
+
+    @Test
+    public void test_openingBook() throws Exception {
+        Path log = Files.createTempFile("games", ".replay");
+        try {
+            try (ReplayT.Writer writer = new ReplayT.Writer(Files.newOutputStream(log))) {
+                for (int i = 0; i < 20; i++) {
+                    ReplayT.record(writer, new GreedyPolicyT(), i);
+                }
+            }
+            OpeningBookT book = new OpeningBookT(new GreedyPolicyT());
+            assertEquals(20 * 5, book.addLog(log, 5));
+            assertEquals(100, book.getPositions());
+            assertTrue(book.getSize() <= 100);
+        } finally {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    @Test
+    public void test_openingBook_symmetricOpening() {
+        // a 2 in both top corners: Left and Right are the same move up to a mirror
+        long mirror = 0x1001L;
+        OpeningBookT book = new OpeningBookT(new GreedyPolicyT());
+        for (int i = 0; i < 3; i++) {
+            book.add(mirror, MoveT.Left);
+            book.add(mirror, MoveT.Right);
+        }
+        for (int i = 0; i < 4; i++) {
+            book.add(mirror, MoveT.Up);
+        }
+        assertEquals(1, book.getSize());
+        MoveT move = book.lookup(mirror);
+        assertTrue(move == MoveT.Left || move == MoveT.Right);
+        for (int s = 0; s < SymmetryT.COUNT; s++) {
+            MoveT to = book.lookup(SymmetryT.transform(mirror, s));
+            assertTrue(to == SymmetryT.to(MoveT.Left, s) || to == SymmetryT.to(MoveT.Right, s));
+        }
+    }
+
+    @Test
+    public void test_openingBook_symmetric() {
+        OpeningBookT book = new OpeningBookT(new GreedyPolicyT());
+        book.add(BOARD, MoveT.Up);
+        book.add(SymmetryT.transform(BOARD, 1), MoveT.Down);
+        book.add(SymmetryT.transform(BOARD, 5), SymmetryT.to(MoveT.Down, 5));
+        assertEquals(1, book.getSize());
+        for (int s = 0; s < SymmetryT.COUNT; s++) {
+            // Down was played twice from the board itself, Up once
+            assertEquals(SymmetryT.to(MoveT.Down, s), book.lookup(SymmetryT.transform(BOARD, s)));
+        }
+        assertNull(book.lookup(0x1L));
+        BitBoardT board1 = new BitBoardT(SymmetryT.transform(BOARD, 6), new RandomT(1));
+        assertEquals(SymmetryT.to(MoveT.Down, 6), book.chooseMove(board1));
+    }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestTableStoreT.java
+ * Revised: 2026/10/17
+ * Description: A class testing TableStoreT files.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+
+public class TestTableStoreT {
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        this.path = Files.createTempFile("tables", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    @Test
+    public void test_writeOpen() throws IOException {
+        float[] floats = new float[100000];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = i * 0.5f;
+        }
+        new TableStoreT.Writer().add("a", floats).add("b", new int[] {3, 1, 4}).write(this.path);
+
+        TableStoreT store = TableStoreT.open(this.path);
+        assertTrue(store.contains("a"));
+        assertFalse(store.contains("c"));
+        FloatBuffer a = store.floats("a");
+        assertEquals(floats.length, a.capacity());
+        assertEquals(49999.5f, a.get(99999), 0f);
+        IntBuffer b = store.ints("b");
+        assertEquals(4, b.get(2));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void test_exception_1() throws IOException {
+        new TableStoreT.Writer().add("b", new int[] {1}).write(this.path);
+        TableStoreT.open(this.path).floats("b");
+    }
+
+    @Test (expected = IOException.class)
+    public void test_exception_2() throws IOException {
+        Files.write(this.path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        TableStoreT.open(this.path);
+    }
+
+    @Test
+    public void test_exception_header() throws IOException {
+        new TableStoreT.Writer().add("a", new int[] {1, 2}).write(this.path);
+        byte[] bytes = Files.readAllBytes(this.path);
+        // the header of the single table: 12 bytes, then name length 1, "a", type, length, offset
+        int length = 12 + 2 + 1 + 1;
+        // cut inside the entry
+        assertOpenFails(Arrays.copyOf(bytes, length + 2), "truncated table store header");
+        // a negative element count
+        byte[] negative = bytes.clone();
+        ByteBuffer.wrap(negative).order(ByteOrder.LITTLE_ENDIAN).putInt(length, -1);
+        assertOpenFails(negative, "corrupt table store");
+        // 2^29 floats, 2 GB in a single buffer
+        byte[] huge = bytes.clone();
+        ByteBuffer.wrap(huge).order(ByteOrder.LITTLE_ENDIAN).putInt(length, 1 << 29);
+        assertOpenFails(huge, "2 GB or more");
+    }
+
+    private void assertOpenFails(byte[] bytes, String message) throws IOException {
+        Files.write(this.path, bytes);
+        try {
+            TableStoreT.open(this.path);
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+
+    @Test (expected = ReadOnlyBufferException.class)
+    public void test_exception_3() throws IOException {
+        new NTupleT().save(this.path);
+        NTupleT.load(this.path).update(0x11L, 1.0f);
+    }
+
+}
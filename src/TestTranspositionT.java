@@ -0,0 +1,125 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestTranspositionT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the transposition tables.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class TestTranspositionT {
+
+    @Test
+    public void test_getPut() {
+        LockFreeTranspositionT table = new LockFreeTranspositionT(10);
+        assertTrue(Float.isNaN(table.get(0x21L, 1)));
+        table.put(0x21L, 2, 3.5f);
+        assertEquals(3.5f, table.get(0x21L, 2), 0f);
+        assertEquals(3.5f, table.get(0x21L, 1), 0f);
+        assertTrue(Float.isNaN(table.get(0x21L, 3)));
+        table.put(0x21L, 1, 1.5f);
+        assertEquals(3.5f, table.get(0x21L, 0), 0f);
+        assertEquals(5, table.getLookups());
+        assertEquals(3, table.getHits());
+        assertEquals(2, table.getMisses());
+        table.clear();
+        assertTrue(Float.isNaN(table.get(0x21L, 0)));
+        assertEquals(1024, table.getCapacity());
+    }
+
+    @Test
+    public void test_zeroBoard() {
+        LockFreeTranspositionT table = new LockFreeTranspositionT(4);
+        assertTrue(Float.isNaN(table.get(0L, 0)));
+        table.put(0L, 0, 0f);
+        assertEquals(0f, table.get(0L, 0), 0f);
+    }
+
+    @Test
+    public void test_replacement() {
+        // a single bucket of four slots
+        LockFreeTranspositionT table = new LockFreeTranspositionT(2);
+        for (long board = 1; board <= 4; board++) {
+            table.put(board, (int) board, board);
+        }
+        assertEquals(0, table.getCollisions());
+        // shallower than every entry of the current search: dropped
+        table.put(5L, 0, 5f);
+        assertTrue(Float.isNaN(table.get(5L, 0)));
+        // replaces the shallowest entry
+        table.put(6L, 2, 6f);
+        assertEquals(1, table.getCollisions());
+        assertTrue(Float.isNaN(table.get(1L, 0)));
+        assertEquals(2f, table.get(2L, 2), 0f);
+        assertEquals(6f, table.get(6L, 2), 0f);
+        // entries of an older search go first, whatever their depth
+        table.nextGeneration();
+        table.put(7L, 0, 7f);
+        assertEquals(7f, table.get(7L, 0), 0f);
+        assertEquals(2, table.getCollisions());
+        table.put(8L, 1, 8f);
+        table.put(9L, 1, 9f);
+        table.put(10L, 1, 10f);
+        assertEquals(8f, table.get(8L, 1), 0f);
+        assertEquals(10f, table.get(10L, 1), 0f);
+    }
+
+    @Test
+    public void test_concurrent() throws InterruptedException {
+        // a small table under heavy contention never returns the value of another board
+        LockFreeTranspositionT table = new LockFreeTranspositionT(6);
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            RandomT random = new RandomT(t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200000; i++) {
+                    long board = random.nextInt(1000) * 0x1234567L;
+                    float value = table.get(board, 0);
+                    if (! Float.isNaN(value) && value != board % 997) {
+                        wrong.incrementAndGet();
+                    }
+                    table.put(board, random.nextInt(4), board % 997);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, wrong.get());
+        assertEquals(800000, table.getLookups());
+        assertTrue(table.getCollisions() > 0);
+    }
+
+    @Test
+    public void test_table_generation() {
+        TranspositionTableT table = new TranspositionTableT(4);
+        long other = 2;
+        while (TranspositionTableT.slot(other, 15) != TranspositionTableT.slot(1L, 15)) {
+            other++;
+        }
+        table.put(1L, 3, 1f);
+        // a shallower board of the same search keeps out of the deeper entry's slot
+        table.put(other, 0, 2f);
+        assertTrue(Float.isNaN(table.get(other, 0)));
+        // once the search is over, the old entry gives way to any new one
+        table.nextGeneration();
+        assertEquals(1f, table.get(1L, 3), 0f);
+        table.put(other, 0, 2f);
+        assertEquals(2f, table.get(other, 0), 0f);
+        assertTrue(Float.isNaN(table.get(1L, 0)));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void test_exception_1() {
+        new LockFreeTranspositionT(1);
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Author: Yuki Zhao
+ * File: TestVerifierT.java
+ * Revised: 2026/10/17
+ * Description: A class testing the verification of replay logs.
+ */
+
+package src;
+
+import org.junit.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TestVerifierT {
+    private final List<Path> logs = new ArrayList<>();
+
+    @After
+    public void tearDown() throws Exception {
+        for (Path log : this.logs) {
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private Path log(byte[] bytes) throws Exception {
+        Path path = Files.createTempFile("games", ".replay");
+        this.logs.add(path);
+        Files.write(path, bytes);
+        return path;
+    }
+
+    private static byte[] record(int games, long seed) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            for (int i = 0; i < games; i++) {
+                ReplayT.record(writer, new GreedyPolicyT(), seed + i);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void test_verify() throws Exception {
+        List<Path> paths = List.of(this.log(record(10, 1)), this.log(record(10, 50)), this.log(record(5, 99)));
+        VerifierT.Result result = new VerifierT(2, true, true).verify(paths);
+        assertEquals(25, result.games.get());
+        assertTrue(result.moves.get() > 0);
+        assertEquals(0, result.failures.get());
+    }
+
+    @Test
+    public void test_verify_marks() throws Exception {
+        byte[] bytes = record(1, 1);
+        // the last byte of the final marks
+        bytes[bytes.length - 9]++;
+        VerifierT.Result result = new VerifierT(1, true, false).verify(List.of(this.log(bytes)));
+        assertEquals(1, result.failures.get());
+        assertTrue(result.errors.get(0).contains("recorded marks"));
+    }
+
+    @Test
+    public void test_verify_spawn() throws Exception {
+        byte[] bytes = record(1, 1);
+        // turn the spawn of the first move from a 2 into a 4 or back
+        bytes[8 + 16] ^= 0x40;
+        VerifierT.Result result = new VerifierT(1, true, false).verify(List.of(this.log(bytes)));
+        assertEquals(1, result.failures.get());
+        assertTrue(result.errors.get(0).contains("not dealt by the seed"));
+    }
+
+    @Test
+    public void test_verify_illegal() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            // a lone 2 in the top left corner cannot move left
+            writer.begin(0, 0x1L);
+            writer.write(MoveT.Left, 5, 1);
+            writer.end(0, 0x100001L);
+        }
+        VerifierT.Result result = new VerifierT(1, false, false).verify(List.of(this.log(bytes.toByteArray())));
+        assertEquals(1, result.failures.get());
+        assertTrue(result.errors.get(0).contains("does not change the board"));
+    }
+
+    @Test
+    public void test_verify_crossCheck() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ReplayT.Writer writer = new ReplayT.Writer(bytes)) {
+            // two 32768s and a 2 in the top row: neither MoveTableT nor BoardT merges the 32768s
+            writer.begin(0, 0x10FFL);
+            writer.write(MoveT.Left, 3, 1);
+            writer.end(0, 0x11FFL);
+        }
+        bytes.write(record(1, 1), 8, record(1, 1).length - 8);
+        VerifierT.Result result = new VerifierT(1, false, true).verify(List.of(this.log(bytes.toByteArray())));
+        assertEquals(2, result.games.get());
+        assertEquals(0, result.failures.get());
+    }
+
+    @Test
+    public void test_verify_truncated() throws Exception {
+        byte[] bytes = record(3, 1);
+        VerifierT.Result result = new VerifierT(1, true, false).verify(List.of(this.log(Arrays.copyOf(bytes, bytes.length - 4))));
+        assertEquals(2, result.games.get());
+        assertEquals(1, result.failures.get());
+    }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * @file: TrainerT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Training an n-tuple network by temporal-difference learning over self-play.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * @brief TD(0) training of an NTupleT on the boards after each move. In every self-play game
+ * the network chooses its own moves, and after each move the value of the previous board after
+ * a move is pulled towards the marks of the new move plus the value of the new board after the
+ * move (towards 0 when the game ends). Several threads play at once and update the shared
+ * weights without locking.
+ */
+public class TrainerT {
+    private final NTupleT network;
+    private final float learningRate;
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder marks = new LongAdder();
+
+    /**
+     * @brief A constructor for a trainer.
+     * @param network - the network to train
+     * @param learningRate - the share of each error corrected by an update
+     */
+    public TrainerT(NTupleT network, float learningRate) {
+        this.network = network;
+        this.learningRate = learningRate;
+    }
+
+    /**
+     * @brief Training on self-play games spread over several threads.
+     * @param count - the number of games
+     * @param threads - the number of threads
+     * @param seed - the seed of the random spawns
+     * @throws InterruptedException - if interrupted while waiting for the threads
+     */
+    public void train(int count, int threads, long seed) throws InterruptedException {
+        RandomT[] randoms = RandomT.split(seed, threads);
+        AtomicInteger next = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            NTupleT view = new NTupleT(this.network);
+            RandomT random = randoms[i];
+            workers[i] = new Thread(() -> {
+                MoveSetT outcomes = new MoveSetT();
+                while (next.getAndIncrement() < count) {
+                    this.playGame(view, random, outcomes);
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    /**
+     * @brief Playing one self-play game and learning from it.
+     * @param view - the network, owned by the calling thread
+     * @param random - the generator of the random spawns
+     * @param outcomes - a reusable holder for the move outcomes
+     * @return The final marks of the game.
+     */
+    int playGame(NTupleT view, RandomGenerator random, MoveSetT outcomes) {
+        long board = spawn(spawn(0L, random), random);
+        long previous = 0L;
+        boolean first = true;
+        int total = 0;
+        int count = 0;
+        while (true) {
+            int move = view.bestMove(outcomes.expand(board));
+            if (move < 0) {
+                break;
+            }
+            long after = outcomes.boards[move];
+            int reward = outcomes.scores[move];
+            if (! first) {
+                float error = reward + view.evaluate(after) - view.evaluate(previous);
+                view.update(previous, this.learningRate * error);
+            }
+            first = false;
+            previous = after;
+            total += reward;
+            count++;
+            board = spawn(after, random);
+        }
+        if (! first) {
+            view.update(previous, -this.learningRate * view.evaluate(previous));
+        }
+        this.games.increment();
+        this.moves.add(count);
+        this.marks.add(total);
+        return total;
+    }
+
+    /**
+     * @brief Spawning a random tile on a packed board.
+     * @param board - a packed board with an empty cell
+     * @param random - the generator of the spawn
+     * @return The board with a 2 or 4 in a random empty cell.
+     */
+    private static long spawn(long board, RandomGenerator random) {
+        int cell = BitBoardT.randomCell(BitBoardT.emptyMask(board), random);
+        return board | (long) BitBoardT.exponent(RandomT.tile(random)) << (4 * cell);
+    }
+
+    /**
+     * @brief A getter for the number of games played so far.
+     * @return The number of games.
+     */
+    public long getGames() {
+        return this.games.sum();
+    }
+
+    /**
+     * @brief The mean final marks of the games played so far.
+     * @return The mean marks, 0 before the first game.
+     */
+    public double getMeanMarks() {
+        long count = this.games.sum();
+        return count == 0 ? 0 : (double) this.marks.sum() / count;
+    }
+
+    /**
+     * @brief A getter for the number of moves played so far.
+     * @return The number of moves.
+     */
+    public long getMoves() {
+        return this.moves.sum();
+    }
+
+    /**
+     * @brief Training a network from the command line and saving it.
+     * @param args - the output file, then optionally the games, threads, learning rate and seed
+     * @throws Exception - if training is interrupted or the file cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args.length > 0 ? args[0] : "ntuple.bin");
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        float learningRate = args.length > 3 ? Float.parseFloat(args[3]) : 0.1f;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        NTupleT network = new NTupleT();
+        TrainerT trainer = new TrainerT(network, learningRate);
+        int round = Math.max(1, count / 20);
+        long start = System.nanoTime();
+        for (int done = 0; done < count; done += round) {
+            trainer.train(Math.min(round, count - done), threads, seed + done);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("games: %d, mean marks: %.0f, games/sec: %.0f, moves/sec: %.0f%n",
+                    trainer.getGames(), trainer.getMeanMarks(), trainer.getGames() / seconds, trainer.getMoves() / seconds);
+        }
+        network.save(output);
+    }
+
+}
@@ -0,0 +1,52 @@
+/**
+ * @file: TranspositionT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: The interface of caches of evaluated board states.
+ */
+
+package src;
+
+/**
+ * @brief A bounded cache from packed boards to their searched values.
+ */
+public interface TranspositionT {
+
+    /**
+     * @brief Looking up a searched board.
+     * @param board - a packed board
+     * @param depth - the remaining search depth that is needed
+     * @return The cached value if it was searched at least as deep, otherwise NaN.
+     */
+    float get(long board, int depth);
+
+    /**
+     * @brief Storing the value of a searched board.
+     * @param board - a packed board
+     * @param depth - the remaining search depth of the value
+     * @param value - the searched value
+     */
+    void put(long board, int depth, float value);
+
+    /**
+     * @brief Starting a new search, whose entries are preferred over the older ones.
+     */
+    void nextGeneration();
+
+    /**
+     * @brief Removing every entry.
+     */
+    void clear();
+
+    /**
+     * @brief A getter for the number of lookups so far.
+     * @return The number of calls to get.
+     */
+    long getLookups();
+
+    /**
+     * @brief A getter for the number of successful lookups so far.
+     * @return The number of calls to get that found a value.
+     */
+    long getHits();
+}
@@ -0,0 +1,118 @@
+/**
+ * @file: TranspositionTableT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: A fixed-size cache of evaluated board states for a single thread.
+ */
+
+package src;
+
+import java.util.Arrays;
+
+/**
+ * @brief A direct-mapped cache of searched boards stored in primitive arrays. Its memory is
+ * fixed by the capacity; a new entry replaces the old one in its slot unless the old one was
+ * searched deeper during the current search. Entries of earlier searches are always replaced,
+ * as the tiles only grow and their boards rarely come back. Not safe for use by several threads.
+ */
+public class TranspositionTableT implements TranspositionT {
+    private final long[] keys;
+    private final float[] values;
+    private final byte[] depths;
+    private final byte[] generations;
+    private final int mask;
+    private byte generation;
+
+    private long lookups;
+    private long hits;
+
+    /**
+     * @brief A constructor for an empty table.
+     * @param bits - the log2 of the number of entries
+     */
+    public TranspositionTableT(int bits) {
+        int capacity = 1 << bits;
+        this.keys = new long[capacity];
+        this.values = new float[capacity];
+        this.depths = new byte[capacity];
+        this.generations = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @brief Looking up a searched board.
+     * @param board - a packed board
+     * @param depth - the remaining search depth that is needed
+     * @return The cached value if it was searched at least as deep, otherwise NaN.
+     */
+    public float get(long board, int depth) {
+        this.lookups++;
+        int slot = slot(board, this.mask);
+        // depth 0 marks an empty slot, so stored depths are shifted by one
+        if (this.keys[slot] == board && this.depths[slot] > depth) {
+            this.hits++;
+            return this.values[slot];
+        }
+        return Float.NaN;
+    }
+
+    /**
+     * @brief Storing the value of a searched board.
+     * @param board - a packed board
+     * @param depth - the remaining search depth of the value
+     * @param value - the searched value
+     */
+    public void put(long board, int depth, float value) {
+        int slot = slot(board, this.mask);
+        if (this.keys[slot] != board && this.depths[slot] > depth + 1 && this.generations[slot] == this.generation) {
+            return;
+        }
+        this.keys[slot] = board;
+        this.values[slot] = value;
+        this.depths[slot] = (byte) (depth + 1);
+        this.generations[slot] = this.generation;
+    }
+
+    /**
+     * @brief Starting a new search: the entries stored so far stay readable, but any new entry
+     * replaces them.
+     */
+    public void nextGeneration() {
+        this.generation++;
+    }
+
+    /**
+     * @brief Removing every entry.
+     */
+    public void clear() {
+        Arrays.fill(this.depths, (byte) 0);
+    }
+
+    /**
+     * @brief A getter for the number of lookups so far.
+     * @return The number of calls to get.
+     */
+    public long getLookups() {
+        return this.lookups;
+    }
+
+    /**
+     * @brief A getter for the number of successful lookups so far.
+     * @return The number of calls to get that found a value.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @brief The slot of a board in a table.
+     * @param board - a packed board
+     * @param mask - the number of slots minus one
+     * @return A well spread index between 0 and mask.
+     */
+    static int slot(long board, int mask) {
+        long h = board * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+}
@@ -7,40 +7,58 @@
 
 package src;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 
 /**
  * @brief Some printing methods representing the user interface (view) of the game.
  */
 public class UI {
+    private final RendererT renderer;
+    private final PrintStream out;
 
     /**
      * @brief The constructor of a UI object.
      */
-    public UI(){}
+    public UI(){
+        this(new RendererT(System.out, false));
+    }
+
+    /**
+     * @brief The constructor of a UI object drawing boards with a given renderer.
+     * @param renderer - the renderer of the game board
+     */
+    public UI(RendererT renderer){
+        this(renderer, System.out);
+    }
+
+    /**
+     * @brief The constructor of a UI object drawing boards with a given renderer and writing its
+     * messages to a given stream.
+     * @param renderer - the renderer of the game board
+     * @param out - the stream receiving the messages, usually the one the renderer writes to
+     */
+    public UI(RendererT renderer, PrintStream out){
+        this.renderer = renderer;
+        this.out = out;
+    }
 
     /**
      * @brief Displaying a welcome message
      */
     public void printWelcomeMessage(){
-        System.out.println("-------------------------------------------------");
-        System.out.println("                 Welcome to 2048                 ");
-        System.out.println("               ---> NEW GAME <---                ");
-        System.out.println("-------------------------------------------------");
+        this.out.println("-------------------------------------------------");
+        this.out.println("                 Welcome to 2048                 ");
+        this.out.println("               ---> NEW GAME <---                ");
+        this.out.println("-------------------------------------------------");
     }
 
     /**
      * @brief Display the game board.
      * @param board - the game board
      */
-    public void printBoard(BoardT board) {
-        System.out.println("-------------------------------------------------");
-        System.out.println("Marks: " + board.getMarks());
-        System.out.println("-------------------------------------------------");
-        for (ArrayList<Integer> row : board.board){
-            printRow(row);
-            System.out.println();
-        }
+    public void printBoard(Board board) {
+        this.renderer.render(board);
     }
 
     /**
@@ -48,32 +66,70 @@ public class UI {
      * @param row - a row in the game board
      */
     public void printRow(ArrayList<Integer> row) {
+        StringBuilder line = new StringBuilder();
         for (Integer num : row) {
-            if (num == 0 || num == 2 || num == 4 ||num == 8) {
-                System.out.print(num);
-                System.out.print("      ");
-            } else if (num == 16 || num == 32 || num == 64) {
-                System.out.print(num);
-                System.out.print("     ");
-            } else if (num == 128 || num == 256 || num == 512) {
-                System.out.print(num);
-                System.out.print("    ");
-            } else {
-                System.out.print(num);
-                System.out.print("   ");
-            }
+            RendererT.appendCell(line, num);
         }
+        this.out.print(line);
+    }
+
+    /**
+     * @brief Display a cell in the game board.
+     * @param num - the tile value of the cell
+     */
+    public void printCell(int num) {
+        this.out.print(RendererT.appendCell(new StringBuilder(), num));
+    }
+
+    /**
+     * @brief Displaying the move chosen by an automated player
+     * @param move - the chosen move
+     */
+    public void printMove(MoveT move){
+        this.out.println("Move: " + move);
+    }
+
+    /**
+     * @brief Displaying a message for a move that does not change the board
+     * @param move - the rejected move
+     */
+    public void printIllegalMove(MoveT move){
+        this.out.println("The move " + move + " does not change the board, try another one.");
+    }
+
+    /**
+     * @brief Displaying a message for an undo or redo without a state to restore
+     * @param command - Undo or Redo
+     */
+    public void printNoHistory(String command){
+        this.out.println("There is nothing to " + command.toLowerCase() + ".");
+    }
+
+    /**
+     * @brief Displaying a message for a saved or loaded game
+     * @param command - the Save or Load command
+     */
+    public void printFileDone(String command){
+        this.out.println(command.startsWith("Save") ? "Game saved." : "Game loaded.");
+    }
+
+    /**
+     * @brief Displaying a message for a game that could not be saved or loaded
+     * @param command - the Save or Load command
+     */
+    public void printFileFailed(String command){
+        this.out.println("The game could not be " + (command.startsWith("Save") ? "saved." : "loaded."));
     }
 
     /**
      * @brief Displaying an ending message
      */
-    public void printEndingMessage(BoardT board){
-        System.out.println("-------------------------------------------------");
-        System.out.println("                    GAME OVER                    ");
-        System.out.println("Marks: " + board.getMarks());
-        System.out.println("             Thank You For Playing !!!           ");
-        System.out.println("-------------------------------------------------");
+    public void printEndingMessage(Board board){
+        this.out.println("-------------------------------------------------");
+        this.out.println("                    GAME OVER                    ");
+        this.out.println("Marks: " + board.getMarks());
+        this.out.println("             Thank You For Playing !!!           ");
+        this.out.println("-------------------------------------------------");
     }
 
 
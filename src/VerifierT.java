@@ -0,0 +1,268 @@
+/**
+ * @file: VerifierT.java
+ * @Author: Yuki Zhao - zhaoy243
+ * @Date: 2026/10/17
+ * @Description: Re-running recorded games to validate their moves, spawns and results.
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @brief Verifies replay logs by re-simulating every game on packed boards. A game passes when
+ * every move changes the board, every spawn lands on an empty cell, and the re-simulated marks
+ * and board equal the recorded ones. Optionally the spawns must also be the ones dealt by a
+ * RandomT with the recorded seed, and every move is cross-checked against the BoardT engine.
+ * Logs are streamed, never loaded whole, and spread over several threads one log at a time.
+ */
+public class VerifierT {
+
+    // at most this many failures are described in a result
+    public final static int MAX_ERRORS = 100;
+
+    private final int threads;
+    private final boolean checkSpawns;
+    private final boolean crossCheck;
+
+    /**
+     * @brief A constructor for a verifier.
+     * @param threads - the number of threads
+     * @param checkSpawns - whether the spawns must follow from the recorded seed
+     * @param crossCheck - whether every move is also replayed on a BoardT and compared
+     */
+    public VerifierT(int threads, boolean checkSpawns, boolean crossCheck) {
+        this.threads = threads;
+        this.checkSpawns = checkSpawns;
+        this.crossCheck = crossCheck;
+    }
+
+    /**
+     * @brief The outcome of verifying logs.
+     */
+    public static class Result {
+        public final AtomicLong games = new AtomicLong();
+        public final AtomicLong moves = new AtomicLong();
+        public final AtomicLong failures = new AtomicLong();
+        public final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        public long nanos;
+
+        /**
+         * @brief Recording a failed game or log.
+         * @param error - the description of the failure
+         */
+        void fail(String error) {
+            this.failures.incrementAndGet();
+            if (this.errors.size() < MAX_ERRORS) {
+                this.errors.add(error);
+            }
+        }
+
+        /**
+         * @brief A report of the throughput and failures.
+         * @return A multi-line report.
+         */
+        @Override
+        public String toString() {
+            double seconds = this.nanos / 1e9;
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("games: %d, moves: %d, failures: %d, time: %.3f s%n",
+                    this.games.get(), this.moves.get(), this.failures.get(), seconds));
+            report.append(String.format("moves/sec: %.0f%n", this.moves.get() / seconds));
+            synchronized (this.errors) {
+                for (String error : this.errors) {
+                    report.append(error).append('\n');
+                }
+            }
+            return report.toString();
+        }
+    }
+
+    /**
+     * @brief Verifying every game of some logs.
+     * @param logs - the replay logs
+     * @throws InterruptedException - if interrupted while waiting for the threads
+     * @return The number of games, moves and failures.
+     */
+    public Result verify(List<Path> logs) throws InterruptedException {
+        Result result = new Result();
+        AtomicInteger next = new AtomicInteger();
+        Thread[] workers = new Thread[this.threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < this.threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = next.getAndIncrement(); i < logs.size(); i = next.getAndIncrement()) {
+                    this.verify(logs.get(i), result);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * @brief Verifying every game of one log.
+     * @param log - a replay log
+     * @param result - the result receiving the counts and failures
+     */
+    private void verify(Path log, Result result) {
+        long games = 0;
+        long moves = 0;
+        try (ReplayT.Reader reader = new ReplayT.Reader(Files.newInputStream(log))) {
+            while (reader.nextGame()) {
+                String error;
+                try {
+                    error = this.verifyGame(reader);
+                } catch (RuntimeException e) {
+                    // a crafted game must fail on its own, not end the log or the worker thread
+                    error = e.toString();
+                }
+                if (error != null) {
+                    result.fail(log + ": game " + games + ": " + error);
+                }
+                games++;
+                moves += reader.getMoves();
+            }
+        } catch (IOException e) {
+            result.fail(log + ": " + e);
+        }
+        result.games.addAndGet(games);
+        result.moves.addAndGet(moves);
+    }
+
+    /**
+     * @brief Verifying the rest of the current game of a log.
+     * @param reader - a reader at the start of a game
+     * @throws IOException - if the log cannot be read
+     * @return The description of the first problem, or null if the game is valid.
+     */
+    public String verifyGame(ReplayT.Reader reader) throws IOException {
+        RandomT random = new RandomT(reader.getSeed());
+        if (this.checkSpawns && reader.getStart() != startBoard(random)) {
+            return "starting board does not follow from the seed";
+        }
+        BoardT engine = null;
+        if (this.crossCheck) {
+            engine = new BoardT();
+            unpack(reader.getStart(), engine);
+        }
+        for (long before = reader.getBoard(); ; before = reader.getBoard()) {
+            int code = reader.nextMove();
+            if (code < 0) {
+                break;
+            }
+            MoveT move = ReplayT.move(code);
+            int cell = ReplayT.cell(code);
+            long after = MoveTableT.move(before, move);
+            if (after == before) {
+                return "move " + reader.getMoves() + " (" + move + ") does not change the board";
+            }
+            if (((after >>> (4 * cell)) & 0xF) != 0) {
+                return "move " + reader.getMoves() + " spawns on an occupied cell";
+            }
+            if (this.checkSpawns) {
+                int tile = RandomT.tile(random);
+                if (BitBoardT.randomCell(BitBoardT.emptyMask(after), random) != cell
+                        || BitBoardT.exponent(tile) != ReplayT.exponent(code)) {
+                    return "move " + reader.getMoves() + " spawns a tile not dealt by the seed";
+                }
+            }
+            if (engine != null) {
+                engine.moveBoard(move);
+                engine.setCell(cell / BoardT.size, cell % BoardT.size, 1 << ReplayT.exponent(code));
+                if (! sameCells(reader.getBoard(), engine) || engine.getMarks() != reader.getMarks()) {
+                    return "move " + reader.getMoves() + " differs on BoardT";
+                }
+            }
+        }
+        if (reader.getMarks() != reader.getFinalMarks()) {
+            return "recorded marks " + reader.getFinalMarks() + " but replayed " + reader.getMarks();
+        }
+        if (reader.getBoard() != reader.getFinalBoard()) {
+            return "recorded final board differs from the replayed one";
+        }
+        return null;
+    }
+
+    /**
+     * @brief The starting board dealt by a generator, as BitBoardT.startBoard deals it.
+     * @param random - a fresh generator, left after the starting spawns
+     * @return The packed starting board.
+     */
+    private static long startBoard(RandomT random) {
+        BitBoardT board = new BitBoardT(random);
+        board.startBoard();
+        return board.board;
+    }
+
+    /**
+     * @brief Comparing a board engine with a packed board cell by cell, without packing the engine,
+     * so that an engine holding a tile a packed board cannot is reported as differing, not thrown.
+     * @param board - a packed board
+     * @param engine - a 4x4 game board
+     * @return Return true if every cell holds the same tile, otherwise false.
+     */
+    private static boolean sameCells(long board, Board engine) {
+        for (int i = 0; i < 16; i++) {
+            int e = (int) (board >>> (4 * i)) & 0xF;
+            if (engine.getCell(i / BoardT.size, i % BoardT.size) != (e == 0 ? 0 : 1 << e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Setting the cells of a board engine from a packed board.
+     * @param board - a packed board
+     * @param engine - an empty game board
+     */
+    private static void unpack(long board, Board engine) {
+        for (int i = 0; i < 16; i++) {
+            int e = (int) (board >>> (4 * i)) & 0xF;
+            if (e != 0) {
+                engine.setCell(i / BoardT.size, i % BoardT.size, 1 << e);
+            }
+        }
+    }
+
+    /**
+     * @brief Verifying logs from the command line.
+     * @param args - optionally --no-spawns, --cross-check and --threads n, then the logs
+     * @throws Exception - if interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        boolean checkSpawns = true;
+        boolean crossCheck = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Path> logs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--no-spawns")) {
+                checkSpawns = false;
+            } else if (args[i].equals("--cross-check")) {
+                crossCheck = true;
+            } else if (args[i].equals("--threads")) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                logs.add(Path.of(args[i]));
+            }
+        }
+        Result result = new VerifierT(threads, checkSpawns, crossCheck).verify(logs);
+        System.out.print(result);
+        if (result.failures.get() > 0) {
+            System.exit(1);
+        }
+    }
+
+}